@@ -4,10 +4,11 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main application class for the Workify backend. Bootstraps the Spring Boot application and
- * enables necessary features like Feign clients and Async processing.
+ * enables necessary features like Feign clients, Async processing and scheduled tasks.
  *
  * @author KhanhDX
  * @since 1.0.0
@@ -15,6 +16,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @SpringBootApplication
 @EnableFeignClients
 @EnableAsync
+@EnableScheduling
 public class BeWorkifyApplication {
 
   public static void main(String[] args) {
@@ -0,0 +1,21 @@
+package beworkify.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entry of a refresh-ahead cache. Carries the cached value together with its logical expiry and the
+ * time it took to compute, which drive the probabilistic early refresh.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEnvelope {
+  private Object value;
+  private long expiresAt;
+  private long computeMillis;
+}
@@ -0,0 +1,21 @@
+package beworkify.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Message broadcast over Redis pub/sub when an entry of a two-level cache changes. A {@code null}
+ * key means the whole cache was cleared.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+  private String nodeId;
+  private String cacheName;
+  private Object key;
+}
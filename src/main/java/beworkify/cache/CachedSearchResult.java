@@ -0,0 +1,26 @@
+package beworkify.cache;
+
+import beworkify.dto.response.FacetBucketResponse;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A search result as kept in the {@link SearchResultCache}: the ordered ids of one page, the total
+ * hit count and the facet counts. Documents are hydrated from the database on every read.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedSearchResult {
+  private List<Long> ids;
+  private long total;
+  private Map<String, List<FacetBucketResponse>> facets;
+}
@@ -0,0 +1,128 @@
+package beworkify.cache;
+
+import beworkify.entity.District;
+import beworkify.entity.Industry;
+import beworkify.entity.Province;
+import beworkify.entity.Role;
+import beworkify.enumeration.UserRole;
+import beworkify.repository.DistrictRepository;
+import beworkify.repository.IndustryRepository;
+import beworkify.repository.ProvinceRepository;
+import beworkify.repository.RoleRepository;
+import beworkify.util.AppUtils;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory registry of provinces, districts, industries and roles, loaded once the application is
+ * ready. Lookups read an immutable snapshot that is swapped as a whole on reload, so write paths
+ * resolve references without touching the database. Admin edits reload the local snapshot after
+ * commit and broadcast on {@link #INVALIDATION_CHANNEL} so the other nodes reload theirs.
+ *
+ * <p>Entities held here are detached and shared between threads: they may be used as association
+ * targets but must never be modified. Callers fall back to the database when an id is unknown, e.g.
+ * before the first load or right after another node created it.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataRegistry implements MessageListener {
+
+  public static final String INVALIDATION_CHANNEL = "reference-data:invalidate";
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final ProvinceRepository provinceRepository;
+  private final DistrictRepository districtRepository;
+  private final IndustryRepository industryRepository;
+  private final RoleRepository roleRepository;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+  public Province getProvince(Long id) {
+    return snapshot.provinces().get(id);
+  }
+
+  public District getDistrict(Long id) {
+    return snapshot.districts().get(id);
+  }
+
+  public Industry getIndustry(Long id) {
+    return snapshot.industries().get(id);
+  }
+
+  public Role getRole(UserRole role) {
+    return snapshot.roles().get(role);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void reload() {
+    try {
+      Map<UserRole, Role> roles = new EnumMap<>(UserRole.class);
+      roleRepository.findAll().forEach(r -> roles.put(r.getRole(), r));
+      snapshot =
+          new Snapshot(
+              index(provinceRepository.findAll(), Province::getId),
+              index(districtRepository.findAllWithProvince(), District::getId),
+              index(industryRepository.findAll(), Industry::getId),
+              Collections.unmodifiableMap(roles));
+      log.info(
+          "Reference data registry loaded: {} provinces, {} districts, {} industries",
+          snapshot.provinces().size(),
+          snapshot.districts().size(),
+          snapshot.industries().size());
+    } catch (Exception e) {
+      log.warn("Could not load reference data registry: {}", e.getMessage());
+    }
+  }
+
+  /** Reloads this node once the current transaction commits and tells the other nodes to. */
+  public void reloadAfterCommit() {
+    AppUtils.runAfterCommit(
+        () -> {
+          reload();
+          try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId);
+          } catch (Exception e) {
+            log.warn("Could not broadcast reference data invalidation: {}", e.getMessage());
+          }
+        });
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String sender = stringRedisTemplate.getStringSerializer().deserialize(message.getBody());
+    if (!nodeId.equals(sender)) {
+      reload();
+    }
+  }
+
+  private static <T> Map<Long, T> index(Iterable<T> entities, Function<T, Long> id) {
+    Map<Long, T> map = new HashMap<>();
+    entities.forEach(e -> map.put(id.apply(e), e));
+    return Map.copyOf(map);
+  }
+
+  private record Snapshot(
+      Map<Long, Province> provinces,
+      Map<Long, District> districts,
+      Map<Long, Industry> industries,
+      Map<UserRole, Role> roles) {
+    static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of(), Map.of());
+  }
+}
@@ -0,0 +1,274 @@
+package beworkify.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Redis cache for short-lived, expensive entries that protects them against stampedes. Entries are
+ * stored as {@link CacheEnvelope}s with a logical expiry of {@code ttl}, while Redis keeps them
+ * longer (see the cache configuration), so an expired value can still be served while it is being
+ * recomputed.
+ *
+ * <p>Reads through {@code @Cacheable(sync = true)} refresh an entry in the background once it is
+ * due: shortly before its expiry with a probability growing with its compute time (XFetch), and
+ * always after it. A miss is computed once per node, and across nodes by the holder of a Redis
+ * lease only while the others wait briefly for its result. Redis failures fall back to calling the
+ * loader directly.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Slf4j
+public class RefreshAheadCache implements Cache {
+
+  private static final double BETA = 1.0;
+  private static final Duration LEASE_TTL = Duration.ofSeconds(10);
+  private static final Duration LEASE_WAIT = Duration.ofSeconds(2);
+  private static final long LEASE_POLL_MILLIS = 50;
+  private static final RedisScript<Long> RELEASE_LEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+          end
+          return 0
+          """,
+          Long.class);
+
+  private final String name;
+  private final Cache remote;
+  private final Duration ttl;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final Executor refreshExecutor;
+  private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight =
+      new ConcurrentHashMap<>();
+  private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+  public RefreshAheadCache(
+      String name,
+      Cache remote,
+      Duration ttl,
+      StringRedisTemplate stringRedisTemplate,
+      Executor refreshExecutor) {
+    this.name = name;
+    this.remote = remote;
+    this.ttl = ttl;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.refreshExecutor = refreshExecutor;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return this;
+  }
+
+  /** Plain reads only see fresh entries; there is no loader to refresh an expired one with. */
+  @Override
+  public ValueWrapper get(Object key) {
+    CacheEnvelope envelope = read(key);
+    if (envelope == null || envelope.getExpiresAt() <= System.currentTimeMillis()) return null;
+    return new SimpleValueWrapper(envelope.getValue());
+  }
+
+  @Override
+  public <T> T get(Object key, Class<T> type) {
+    ValueWrapper value = get(key);
+    if (value == null) return null;
+    Object raw = value.get();
+    if (raw != null && type != null && !type.isInstance(raw)) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + raw);
+    }
+    return type == null ? null : type.cast(raw);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    CacheEnvelope envelope = read(key);
+    if (envelope != null) {
+      if (isDue(envelope)) {
+        refreshInBackground(key, envelope, valueLoader);
+      }
+      return (T) envelope.getValue();
+    }
+    return (T) loadOnce(key, valueLoader);
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    write(key, value, 0);
+  }
+
+  @Override
+  public void evict(Object key) {
+    remote.evict(key);
+  }
+
+  @Override
+  public void clear() {
+    remote.clear();
+  }
+
+  private Object loadOnce(Object key, Callable<?> valueLoader) {
+    CompletableFuture<Object> mine = new CompletableFuture<>();
+    CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+    if (running != null) return await(running);
+    try {
+      Object value = loadUnderLease(key, valueLoader);
+      mine.complete(value);
+      return value;
+    } catch (RuntimeException e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, mine);
+    }
+  }
+
+  private Object loadUnderLease(Object key, Callable<?> valueLoader) {
+    String token = UUID.randomUUID().toString();
+    if (acquireLease(key, token)) {
+      try {
+        CacheEnvelope current = read(key);
+        return current != null ? current.getValue() : compute(key, valueLoader);
+      } finally {
+        releaseLease(key, token);
+      }
+    }
+    long deadline = System.nanoTime() + LEASE_WAIT.toNanos();
+    while (System.nanoTime() < deadline) {
+      try {
+        Thread.sleep(LEASE_POLL_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      CacheEnvelope current = read(key);
+      if (current != null) return current.getValue();
+    }
+    return compute(key, valueLoader);
+  }
+
+  private void refreshInBackground(Object key, CacheEnvelope seen, Callable<?> valueLoader) {
+    if (!refreshing.add(key)) return;
+    try {
+      refreshExecutor.execute(
+          () -> {
+            String token = UUID.randomUUID().toString();
+            try {
+              if (!acquireLease(key, token)) return;
+              try {
+                CacheEnvelope current = read(key);
+                if (current == null || current.getExpiresAt() <= seen.getExpiresAt()) {
+                  compute(key, valueLoader);
+                }
+              } finally {
+                releaseLease(key, token);
+              }
+            } catch (Exception e) {
+              log.warn("Could not refresh entry {} of cache {}: {}", key, name, e.getMessage());
+            } finally {
+              refreshing.remove(key);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      refreshing.remove(key);
+    }
+  }
+
+  /**
+   * XFetch: an entry is due once {@code now - computeMillis * beta * ln(random)} reaches its
+   * expiry, so slow entries are refreshed earlier and one caller usually refreshes before the rest
+   * notice the expiry.
+   */
+  private boolean isDue(CacheEnvelope envelope) {
+    double random = 1 - ThreadLocalRandom.current().nextDouble();
+    double gap = envelope.getComputeMillis() * BETA * -Math.log(random);
+    return System.currentTimeMillis() + gap >= envelope.getExpiresAt();
+  }
+
+  private Object compute(Object key, Callable<?> valueLoader) {
+    long startedAt = System.currentTimeMillis();
+    Object value;
+    try {
+      value = valueLoader.call();
+    } catch (Exception e) {
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+    write(key, value, System.currentTimeMillis() - startedAt);
+    return value;
+  }
+
+  private Object await(CompletableFuture<Object> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) throw cause;
+      throw e;
+    }
+  }
+
+  private CacheEnvelope read(Object key) {
+    try {
+      ValueWrapper value = remote.get(key);
+      return value != null && value.get() instanceof CacheEnvelope envelope ? envelope : null;
+    } catch (Exception e) {
+      log.warn("Could not read entry {} of cache {}: {}", key, name, e.getMessage());
+      return null;
+    }
+  }
+
+  private void write(Object key, Object value, long computeMillis) {
+    if (value == null) return;
+    try {
+      long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+      remote.put(key, new CacheEnvelope(value, expiresAt, computeMillis));
+    } catch (Exception e) {
+      log.warn("Could not write entry {} of cache {}: {}", key, name, e.getMessage());
+    }
+  }
+
+  private boolean acquireLease(Object key, String token) {
+    try {
+      return Boolean.TRUE.equals(
+          stringRedisTemplate.opsForValue().setIfAbsent(leaseKey(key), token, LEASE_TTL));
+    } catch (Exception e) {
+      log.warn("Could not acquire lease on entry {} of cache {}: {}", key, name, e.getMessage());
+      return true;
+    }
+  }
+
+  private void releaseLease(Object key, String token) {
+    try {
+      stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey(key)), token);
+    } catch (Exception e) {
+      log.warn("Could not release lease on entry {} of cache {}: {}", key, name, e.getMessage());
+    }
+  }
+
+  private String leaseKey(Object key) {
+    return "lease:" + name + ":" + key;
+  }
+}
@@ -0,0 +1,87 @@
+package beworkify.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Short-lived cache of search results keyed by a canonical query fingerprint. Concurrent misses for
+ * the same fingerprint on this node are coalesced: the first caller runs the search and the others
+ * wait for its result instead of sending the same query to Elasticsearch.
+ *
+ * <p>Redis failures are treated as misses so search keeps working without the cache.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchResultCache {
+
+  private static final String KEY_PREFIX = "search:jobs:";
+  private static final Duration TTL = Duration.ofSeconds(30);
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final ConcurrentMap<String, CompletableFuture<CachedSearchResult>> inFlight =
+      new ConcurrentHashMap<>();
+
+  public CachedSearchResult get(String fingerprint, Supplier<CachedSearchResult> loader) {
+    String key =
+        KEY_PREFIX + DigestUtils.md5DigestAsHex(fingerprint.getBytes(StandardCharsets.UTF_8));
+    CachedSearchResult cached = read(key);
+    if (cached != null) return cached;
+
+    CompletableFuture<CachedSearchResult> mine = new CompletableFuture<>();
+    CompletableFuture<CachedSearchResult> running = inFlight.putIfAbsent(key, mine);
+    if (running != null) return await(running);
+    try {
+      CachedSearchResult result = loader.get();
+      write(key, result);
+      mine.complete(result);
+      return result;
+    } catch (RuntimeException e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, mine);
+    }
+  }
+
+  private CachedSearchResult await(CompletableFuture<CachedSearchResult> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) throw cause;
+      throw e;
+    }
+  }
+
+  private CachedSearchResult read(String key) {
+    try {
+      return redisTemplate.opsForValue().get(key) instanceof CachedSearchResult result
+          ? result
+          : null;
+    } catch (Exception e) {
+      log.warn("Could not read cached search result {}: {}", key, e.getMessage());
+      return null;
+    }
+  }
+
+  private void write(String key, CachedSearchResult result) {
+    try {
+      redisTemplate.opsForValue().set(key, result, TTL);
+    } catch (Exception e) {
+      log.warn("Could not cache search result {}: {}", key, e.getMessage());
+    }
+  }
+}
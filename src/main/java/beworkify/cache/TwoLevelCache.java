@@ -0,0 +1,94 @@
+package beworkify.cache;
+
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+
+/**
+ * Cache that keeps a bounded in-process copy (L1) of entries stored in Redis (L2). Reads are served
+ * from L1 when possible; writes go to both levels and are broadcast so other nodes drop their L1
+ * copy.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+public class TwoLevelCache implements Cache {
+
+  private final String name;
+  private final Cache local;
+  private final Cache remote;
+  private final TwoLevelCacheManager cacheManager;
+
+  public TwoLevelCache(String name, Cache local, Cache remote, TwoLevelCacheManager cacheManager) {
+    this.name = name;
+    this.local = local;
+    this.remote = remote;
+    this.cacheManager = cacheManager;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return this;
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    ValueWrapper value = local.get(key);
+    if (value != null) return value;
+    value = remote.get(key);
+    if (value != null) {
+      local.put(key, value.get());
+    }
+    return value;
+  }
+
+  @Override
+  public <T> T get(Object key, Class<T> type) {
+    ValueWrapper value = get(key);
+    if (value == null) return null;
+    Object raw = value.get();
+    if (raw != null && type != null && !type.isInstance(raw)) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + raw);
+    }
+    return type == null ? null : type.cast(raw);
+  }
+
+  @Override
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    return local.get(key, () -> remote.get(key, valueLoader));
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    remote.put(key, value);
+    local.put(key, value);
+    cacheManager.publishInvalidation(name, key);
+  }
+
+  @Override
+  public void evict(Object key) {
+    remote.evict(key);
+    local.evict(key);
+    cacheManager.publishInvalidation(name, key);
+  }
+
+  @Override
+  public void clear() {
+    remote.clear();
+    local.clear();
+    cacheManager.publishInvalidation(name, null);
+  }
+
+  void evictLocal(Object key) {
+    local.evict(key);
+  }
+
+  void clearLocal() {
+    local.clear();
+  }
+}
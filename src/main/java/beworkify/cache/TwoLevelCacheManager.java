@@ -0,0 +1,114 @@
+package beworkify.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+/**
+ * Composite cache manager putting a Caffeine L1 in front of the Redis cache manager for the
+ * configured cache names. Other caches are served by Redis only. L1 invalidations are broadcast on
+ * {@link #INVALIDATION_CHANNEL} and applied by every other node. Caches with a refresh-ahead TTL
+ * are wrapped in a {@link RefreshAheadCache}, refreshed on a small shared pool.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+  public static final String INVALIDATION_CHANNEL = "cache:l1:invalidate";
+
+  private static final int REFRESH_THREADS = 2;
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final CacheManager remoteCacheManager;
+  private final Map<String, Caffeine<Object, Object>> localCacheSpecs;
+  private final Map<String, Duration> refreshAheadTtls;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+  private final ExecutorService refreshExecutor;
+
+  public TwoLevelCacheManager(
+      CacheManager remoteCacheManager,
+      Map<String, Caffeine<Object, Object>> localCacheSpecs,
+      Map<String, Duration> refreshAheadTtls,
+      RedisTemplate<String, Object> redisTemplate,
+      StringRedisTemplate stringRedisTemplate) {
+    this.remoteCacheManager = remoteCacheManager;
+    this.localCacheSpecs = localCacheSpecs;
+    this.refreshAheadTtls = refreshAheadTtls;
+    this.redisTemplate = redisTemplate;
+    this.stringRedisTemplate = stringRedisTemplate;
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-refresh-");
+    threadFactory.setDaemon(true);
+    // Refreshes run the cached method on behalf of the caller that noticed the expiry
+    this.refreshExecutor =
+        new DelegatingSecurityContextExecutorService(
+            Executors.newFixedThreadPool(REFRESH_THREADS, threadFactory));
+  }
+
+  @Override
+  public Cache getCache(String name) {
+    return caches.computeIfAbsent(name, this::createCache);
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return remoteCacheManager.getCacheNames();
+  }
+
+  private Cache createCache(String name) {
+    Cache remote = remoteCacheManager.getCache(name);
+    Duration refreshAheadTtl = refreshAheadTtls.get(name);
+    if (refreshAheadTtl != null && remote != null) {
+      return new RefreshAheadCache(
+          name, remote, refreshAheadTtl, stringRedisTemplate, refreshExecutor);
+    }
+    Caffeine<Object, Object> spec = localCacheSpecs.get(name);
+    if (spec == null || remote == null) return remote;
+    Cache local = new CaffeineCache(name, spec.build(), false);
+    return new TwoLevelCache(name, local, remote, this);
+  }
+
+  void publishInvalidation(String cacheName, Object key) {
+    try {
+      redisTemplate.convertAndSend(
+          INVALIDATION_CHANNEL, new CacheInvalidationMessage(nodeId, cacheName, key));
+    } catch (Exception e) {
+      log.warn("Could not broadcast L1 invalidation for cache {}: {}", cacheName, e.getMessage());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+    if (!(body instanceof CacheInvalidationMessage invalidation)
+        || nodeId.equals(invalidation.getNodeId())) {
+      return;
+    }
+    if (caches.get(invalidation.getCacheName()) instanceof TwoLevelCache cache) {
+      if (invalidation.getKey() == null) {
+        cache.clearLocal();
+      } else {
+        cache.evictLocal(invalidation.getKey());
+      }
+    }
+  }
+}
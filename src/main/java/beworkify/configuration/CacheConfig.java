@@ -1,27 +1,37 @@
 package beworkify.configuration;
 
+import beworkify.cache.ReferenceDataRegistry;
+import beworkify.cache.TwoLevelCacheManager;
+import beworkify.util.RedisUtils;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
  * Configuration class for caching. Sets up Redis cache manager with specific TTLs for different
- * cache names.
+ * cache names, fronted by an in-process L1 for reference data and protected against stampedes for
+ * short-lived aggregates.
  *
  * @author KhanhDX
  * @since 1.0.0
@@ -31,40 +41,84 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 public class CacheConfig {
 
   @Bean
-  public CacheManager cacheManager(
+  public TwoLevelCacheManager cacheManager(
       RedisConnectionFactory redisConnectionFactory,
-      GenericJackson2JsonRedisSerializer redisSerializer) {
+      GenericJackson2JsonRedisSerializer redisSerializer,
+      RedisTemplate<String, Object> redisTemplate,
+      StringRedisTemplate stringRedisTemplate) {
     Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
     cacheConfigs.put("roles", cacheConfiguration(redisSerializer).entryTtl(Duration.ofDays(7)));
     cacheConfigs.put("provinces", cacheConfiguration(redisSerializer).entryTtl(Duration.ofDays(2)));
     cacheConfigs.put("districts", cacheConfiguration(redisSerializer).entryTtl(Duration.ofDays(2)));
     cacheConfigs.put(
         "categories_job", cacheConfiguration(redisSerializer).entryTtl(Duration.ofDays(2)));
-    cacheConfigs.put(
-        "categories_job_count",
-        cacheConfiguration(redisSerializer).entryTtl(Duration.ofSeconds(90)));
     cacheConfigs.put(
         "categories_post", cacheConfiguration(redisSerializer).entryTtl(Duration.ofDays(2)));
     cacheConfigs.put(
         "industries", cacheConfiguration(redisSerializer).entryTtl(Duration.ofDays(2)));
     cacheConfigs.put("posts", cacheConfiguration(redisSerializer).entryTtl(Duration.ofDays(2)));
-    cacheConfigs.put("jobs", cacheConfiguration(redisSerializer).entryTtl(Duration.ofDays(2)));
-    cacheConfigs.put(
-        "jobs_top_attractive",
-        cacheConfiguration(redisSerializer).entryTtl(Duration.ofSeconds(30)));
+    // Listing pages are invalidated by generation; the TTL only bounds orphaned generations
+    cacheConfigs.put("jobs", cacheConfiguration(redisSerializer).entryTtl(Duration.ofMinutes(10)));
     cacheConfigs.put(
         "saved_jobs", cacheConfiguration(redisSerializer).entryTtl(Duration.ofMinutes(30)));
-    cacheConfigs.put(
-        "employers", cacheConfiguration(redisSerializer).entryTtl(Duration.ofSeconds(30)));
-    cacheConfigs.put(
-        "employers_top_hiring",
-        cacheConfiguration(redisSerializer).entryTtl(Duration.ofSeconds(10)));
     cacheConfigs.put("users", cacheConfiguration(redisSerializer).entryTtl(Duration.ofMinutes(10)));
+    cacheConfigs.put(
+        "job_suggestions", cacheConfiguration(redisSerializer).entryTtl(Duration.ofMinutes(5)));
+
+    // Short-lived aggregates refreshed ahead of expiry; Redis keeps them twice as long so a stale
+    // value can be served while one node recomputes it
+    Map<String, Duration> refreshAheadTtls = new HashMap<>();
+    refreshAheadTtls.put("employers", Duration.ofSeconds(30));
+    refreshAheadTtls.put("employers_top_hiring", Duration.ofSeconds(10));
+    refreshAheadTtls.forEach(
+        (name, ttl) ->
+            cacheConfigs.put(
+                name, cacheConfiguration(redisSerializer).entryTtl(ttl.multipliedBy(2))));
+
+    // SCAN instead of KEYS when a whole cache is cleared (@CacheEvict(allEntries = true))
+    RedisCacheWriter cacheWriter =
+        RedisCacheWriter.nonLockingRedisCacheWriter(
+            redisConnectionFactory, BatchStrategies.scan(1000));
+    RedisCacheManager redisCacheManager =
+        RedisCacheManager.builder(cacheWriter)
+            .cacheDefaults(cacheConfiguration(redisSerializer))
+            .withInitialCacheConfigurations(cacheConfigs)
+            .build();
+    redisCacheManager.afterPropertiesSet();
+
+    // In-process L1 for near-static reference data, in front of Redis
+    Map<String, Caffeine<Object, Object>> localCaches = new HashMap<>();
+    localCaches.put("roles", localCache(100, Duration.ofHours(1)));
+    localCaches.put("provinces", localCache(500, Duration.ofMinutes(30)));
+    localCaches.put("districts", localCache(2000, Duration.ofMinutes(30)));
+    localCaches.put("industries", localCache(1000, Duration.ofMinutes(30)));
+    localCaches.put("categories_job", localCache(500, Duration.ofMinutes(30)));
+    localCaches.put("categories_post", localCache(500, Duration.ofMinutes(30)));
+    localCaches.put("job_suggestions", localCache(2000, Duration.ofMinutes(1)));
+
+    return new TwoLevelCacheManager(
+        redisCacheManager, localCaches, refreshAheadTtls, redisTemplate, stringRedisTemplate);
+  }
+
+  @Bean
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+      RedisConnectionFactory redisConnectionFactory,
+      TwoLevelCacheManager cacheManager,
+      ReferenceDataRegistry referenceDataRegistry,
+      RedisUtils redisUtils) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(
+        cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+    container.addMessageListener(
+        redisUtils, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+    container.addMessageListener(
+        referenceDataRegistry, new ChannelTopic(ReferenceDataRegistry.INVALIDATION_CHANNEL));
+    return container;
+  }
 
-    return RedisCacheManager.builder(redisConnectionFactory)
-        .cacheDefaults(cacheConfiguration(redisSerializer))
-        .withInitialCacheConfigurations(cacheConfigs)
-        .build();
+  private Caffeine<Object, Object> localCache(long maximumSize, Duration ttl) {
+    return Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl);
   }
 
   @Bean
@@ -1,21 +1,15 @@
 package beworkify.configuration;
 
-import beworkify.search.document.JobDocument;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import beworkify.search.service.JobSearchService;
+import beworkify.search.service.SearchSynonymService;
 import jakarta.annotation.PostConstruct;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.data.elasticsearch.core.IndexOperations;
 import org.springframework.stereotype.Component;
 
 /**
- * Configuration class for Elasticsearch. Initializes indices and mappings for search functionality.
+ * Configuration class for Elasticsearch. Makes sure the search synonyms set, the jobs index, its
+ * alias and the job alert percolator index exist on startup.
  *
  * @author KhanhDX
  * @since 1.0.0
@@ -25,21 +19,13 @@ import org.springframework.stereotype.Component;
 @Profile("!test")
 public class ElasticsearchConfig {
 
-  private final ElasticsearchOperations operations;
-  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final JobSearchService jobSearchService;
+  private final SearchSynonymService searchSynonymService;
 
   @PostConstruct
-  public void initIndex() throws IOException {
-    ClassPathResource settingsRes = new ClassPathResource("elasticsearch/jobs-settings.json");
-    Map<String, Object> settings;
-    try (InputStream is = settingsRes.getInputStream()) {
-      settings = objectMapper.readValue(is, new TypeReference<>() {});
-    }
-
-    IndexOperations indexOps = operations.indexOps(JobDocument.class);
-    if (!indexOps.exists()) {
-      indexOps.create(settings);
-      indexOps.putMapping(indexOps.createMapping());
-    }
+  public void initIndex() {
+    searchSynonymService.ensureSynonymSet();
+    jobSearchService.ensureIndex();
+    jobSearchService.ensureAlertIndex();
   }
 }
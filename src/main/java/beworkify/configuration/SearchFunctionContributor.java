@@ -0,0 +1,47 @@
+package beworkify.configuration;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers PostgreSQL search functions for use in JPQL/HQL queries. The rendered SQL matches the
+ * expression indexes created by {@link beworkify.configuration.initializer.JobSearchInitializer},
+ * so keyword filters can be served by the GIN indexes instead of a sequential scan.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+
+  /**
+   * Accent-folded text search document of a job. Must stay identical to the expression of {@code
+   * idx_jobs_fulltext_search}, otherwise PostgreSQL will not use the index.
+   */
+  public static final String JOB_SEARCH_VECTOR_SQL =
+      "to_tsvector('simple', f_unaccent(coalesce(%s, '') || ' ' || coalesce(%s, '') || ' ' "
+          + "|| coalesce(%s, '') || ' ' || coalesce(%s, '')))";
+
+  @Override
+  public void contributeFunctions(FunctionContributions functionContributions) {
+    BasicTypeRegistry basicTypeRegistry =
+        functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+    functionContributions
+        .getFunctionRegistry()
+        .registerPattern(
+            "unaccent_lower",
+            "f_unaccent(lower(?1))",
+            basicTypeRegistry.resolve(StandardBasicTypes.STRING));
+
+    functionContributions
+        .getFunctionRegistry()
+        .registerPattern(
+            "job_text_match",
+            "("
+                + JOB_SEARCH_VECTOR_SQL.formatted("?1", "?2", "?3", "?4")
+                + " @@ plainto_tsquery('simple', f_unaccent(?5)))",
+            basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN));
+  }
+}
@@ -93,6 +93,7 @@ public class SecurityConfig {
                     .requestMatchers(
                         HttpMethod.GET,
                         "/api/v1/jobs/advanced/**",
+                        "/api/v1/jobs/suggestions/**",
                         "/api/v1/jobs/{id}",
                         "/api/v1/jobs/locations/popular/**",
                         "/api/v1/jobs/industries/popular/**",
@@ -0,0 +1,125 @@
+package beworkify.configuration.initializer;
+
+import beworkify.configuration.SearchFunctionContributor;
+import beworkify.enumeration.JobStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Order(100)
+public class JobSearchInitializer implements CommandLineRunner {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void run(String... args) {
+    try {
+      setupKeywordIndexes();
+      setupKeysetIndexes();
+      setupExpirationIndexes();
+      log.info("Advanced job search indexes setup completed");
+    } catch (Exception e) {
+      log.error("Failed to setup job indexes: {}", e.getMessage());
+    }
+  }
+
+  private void setupKeywordIndexes() {
+    executeSQL("CREATE EXTENSION IF NOT EXISTS pg_trgm", "pg_trgm extension enabled");
+    executeSQL("CREATE EXTENSION IF NOT EXISTS unaccent", "unaccent extension enabled");
+
+    executeSQL(
+        """
+				CREATE OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+				LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+				AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$
+				""",
+        "Immutable unaccent wrapper created");
+
+    executeSQL(
+        """
+				CREATE INDEX IF NOT EXISTS idx_jobs_fulltext_search
+				ON jobs USING GIN(%s)
+				"""
+            .formatted(
+                SearchFunctionContributor.JOB_SEARCH_VECTOR_SQL.formatted(
+                    "job_title", "company_name", "job_description", "requirement")),
+        "Job full-text search index created");
+
+    executeSQL(
+        """
+				CREATE INDEX IF NOT EXISTS idx_jobs_title_trgm
+				ON jobs USING GIN(f_unaccent(lower(job_title)) gin_trgm_ops)
+				""",
+        "Job title trigram index created");
+
+    executeSQL(
+        """
+				CREATE INDEX IF NOT EXISTS idx_jobs_company_name_trgm
+				ON jobs USING GIN(f_unaccent(lower(company_name)) gin_trgm_ops)
+				""",
+        "Job company name trigram index created");
+  }
+
+  private void setupKeysetIndexes() {
+    executeSQL(
+        """
+				CREATE INDEX IF NOT EXISTS idx_jobs_created_id
+				ON jobs(created_at DESC, id DESC)
+				""",
+        "Job created_at/id keyset index created");
+
+    executeSQL(
+        """
+				CREATE INDEX IF NOT EXISTS idx_jobs_employer_created_id
+				ON jobs(employer_id, created_at DESC, id DESC)
+				""",
+        "Job employer keyset index created");
+
+    executeSQL(
+        """
+				CREATE INDEX IF NOT EXISTS idx_jobs_approved_employer_created_id
+				ON jobs(employer_id, created_at DESC, id DESC)
+				WHERE status = %d
+				"""
+            .formatted(JobStatus.APPROVED.ordinal()),
+        "Approved job employer keyset index created");
+
+    executeSQL(
+        """
+				CREATE INDEX IF NOT EXISTS idx_jobs_approved_created_id
+				ON jobs(created_at DESC, id DESC)
+				WHERE status = %d
+				"""
+            .formatted(JobStatus.APPROVED.ordinal()),
+        "Approved job keyset index created");
+  }
+
+  private void setupExpirationIndexes() {
+    executeSQL(
+        """
+				CREATE INDEX IF NOT EXISTS idx_jobs_approved_expiration
+				ON jobs(expiration_date, id)
+				WHERE status = %d
+				"""
+            .formatted(JobStatus.APPROVED.ordinal()),
+        "Approved job expiration index created");
+  }
+
+  private void executeSQL(String sql, String successMessage) {
+    try {
+      jdbcTemplate.execute(sql);
+      log.info(successMessage);
+    } catch (Exception e) {
+      log.warn(
+          "Could not execute SQL [{}]: {}",
+          sql.substring(0, Math.min(50, sql.length())),
+          e.getMessage());
+    }
+  }
+}
@@ -6,6 +6,7 @@ import beworkify.dto.request.UpdatePasswordRequest;
 import beworkify.dto.response.EmployerResponse;
 import beworkify.dto.response.PageResponse;
 import beworkify.dto.response.ResponseData;
+import beworkify.enumeration.CountMode;
 import beworkify.enumeration.LevelCompanySize;
 import beworkify.enumeration.UserRole;
 import beworkify.service.EmployerService;
@@ -63,7 +64,13 @@ public class EmployerController {
           @RequestParam(required = false)
           String companySize,
       @Min(value = 1, message = "{validation.province.invalid}") @RequestParam(required = false)
-          Long provinceId) {
+          Long provinceId,
+      @ValueOfEnum(
+              enumClass = CountMode.class,
+              message = "{error.invalid.count.mode.enum}",
+              required = false)
+          @RequestParam(required = false)
+          String countMode) {
     LevelCompanySize levelCompanySize = null;
     if (StringUtils.isNotBlank(companySize)) {
       levelCompanySize = LevelCompanySize.fromLabel(companySize);
@@ -72,7 +79,14 @@ public class EmployerController {
     boolean isAdmin = AppUtils.hasRole(authentication, UserRole.ADMIN.getName());
     PageResponse<List<EmployerResponse>> response =
         employerService.getEmployersWithPaginationAndKeywordAndSorts(
-            pageNumber, pageSize, sorts, keyword, levelCompanySize, provinceId, isAdmin);
+            pageNumber,
+            pageSize,
+            sorts,
+            keyword,
+            levelCompanySize,
+            provinceId,
+            isAdmin,
+            CountMode.fromValue(countMode));
 
     String message =
         messageSource.getMessage(
@@ -0,0 +1,65 @@
+package beworkify.controller;
+
+import beworkify.dto.request.JobAlertRequest;
+import beworkify.dto.response.JobAlertResponse;
+import beworkify.dto.response.ResponseData;
+import beworkify.service.JobAlertService;
+import beworkify.util.ResponseBuilder;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for managing job alerts. Allows job seekers to save search criteria and get
+ * notified about newly approved matching jobs.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@RestController
+@RequiredArgsConstructor
+@Validated
+@RequestMapping("/api/v1/job-alerts")
+public class JobAlertController {
+
+  private final JobAlertService service;
+  private final MessageSource messageSource;
+
+  @PostMapping
+  @PreAuthorize("hasRole('JOB_SEEKER')")
+  public ResponseEntity<ResponseData<JobAlertResponse>> create(
+      @RequestBody @Valid JobAlertRequest request) {
+    JobAlertResponse response = service.create(request);
+    String message =
+        messageSource.getMessage("job_alert.create.success", null, LocaleContextHolder.getLocale());
+    return ResponseBuilder.withData(HttpStatus.CREATED, message, response);
+  }
+
+  @GetMapping
+  @PreAuthorize("hasRole('JOB_SEEKER')")
+  public ResponseEntity<ResponseData<List<JobAlertResponse>>> getMyAlerts() {
+    List<JobAlertResponse> response = service.getMyAlerts();
+    String message =
+        messageSource.getMessage(
+            "job_alert.get.list.success", null, LocaleContextHolder.getLocale());
+    return ResponseBuilder.withData(HttpStatus.OK, message, response);
+  }
+
+  @DeleteMapping("/{id}")
+  @PreAuthorize("hasRole('JOB_SEEKER')")
+  public ResponseEntity<ResponseData<Void>> delete(
+      @PathVariable @Min(value = 1, message = "{validation.id.min}") Long id) {
+    service.delete(id);
+    String message =
+        messageSource.getMessage("job_alert.delete.success", null, LocaleContextHolder.getLocale());
+    return ResponseBuilder.noData(HttpStatus.OK, message);
+  }
+}
@@ -3,22 +3,29 @@ package beworkify.controller;
 import beworkify.dto.request.JobRequest;
 import beworkify.dto.response.*;
 import beworkify.enumeration.*;
+import beworkify.exception.AppException;
 import beworkify.search.service.JobSearchService;
 import beworkify.service.JobService;
 import beworkify.util.AppUtils;
 import beworkify.util.ResponseBuilder;
 import beworkify.validation.annotation.ValueOfEnum;
 import beworkify.validation.annotation.ValueOfEnumList;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -40,9 +47,10 @@ public class JobController {
   private final JobService service;
   private final JobSearchService jobSearchService;
   private final MessageSource messageSource;
+  private final ObjectMapper objectMapper;
 
   @GetMapping("/advanced")
-  public ResponseEntity<ResponseData<PageResponse<List<JobResponse>>>> searchJobsAdvanced(
+  public ResponseEntity<ResponseData<PageResponse<List<JobCardResponse>>>> searchJobsAdvanced(
       @RequestParam(defaultValue = "") String keyword,
       @RequestParam(required = false) List<String> industryIds,
       @RequestParam(required = false) List<String> provinceIds,
@@ -80,34 +88,63 @@ public class JobController {
       @RequestParam(defaultValue = "1") @Min(value = 1, message = "{validation.page.number.min}")
           int pageNumber,
       @RequestParam(defaultValue = "10") @Min(value = 1, message = "{validation.page.size.min}")
-          int pageSize) {
-
-    Pageable pageable = PageRequest.of(pageNumber - 1, pageSize);
+          int pageSize,
+      @RequestParam(required = false) String cursor) {
 
-    var jobsPage =
-        jobSearchService.searchAdvanced(
-            keyword,
-            industryIds,
-            provinceIds,
-            jobLevels,
-            jobTypes,
-            experienceLevels,
-            educationLevels,
-            postedWithinDays,
-            minSalary,
-            maxSalary,
-            salaryUnit,
-            sort,
-            pageable);
+    PageResponse<List<JobCardResponse>> jobsPage =
+        cursor != null
+            ? jobSearchService.searchAdvancedByCursor(
+                keyword,
+                industryIds,
+                provinceIds,
+                jobLevels,
+                jobTypes,
+                experienceLevels,
+                educationLevels,
+                postedWithinDays,
+                minSalary,
+                maxSalary,
+                salaryUnit,
+                sort,
+                cursor,
+                pageSize)
+            : jobSearchService.searchAdvanced(
+                keyword,
+                industryIds,
+                provinceIds,
+                jobLevels,
+                jobTypes,
+                experienceLevels,
+                educationLevels,
+                postedWithinDays,
+                minSalary,
+                maxSalary,
+                salaryUnit,
+                sort,
+                PageRequest.of(pageNumber - 1, pageSize));
 
     String message =
         messageSource.getMessage("job.get.list.success", null, LocaleContextHolder.getLocale());
     return ResponseBuilder.withData(HttpStatus.OK, message, jobsPage);
   }
 
+  @GetMapping("/suggestions")
+  public ResponseEntity<ResponseData<List<String>>> getSuggestions(
+      @RequestParam @NotBlank(message = "{validation.suggest.prefix.not.blank}") String prefix,
+      @RequestParam(defaultValue = "8")
+          @Min(value = 1, message = "{validation.limit.min}")
+          @Max(value = 20, message = "{validation.suggest.limit.max}")
+          int limit) {
+    List<String> response = jobSearchService.suggest(prefix, limit);
+    String message =
+        messageSource.getMessage(
+            "job.get.suggestions.success", null, LocaleContextHolder.getLocale());
+    return ResponseBuilder.withData(HttpStatus.OK, message, response);
+  }
+
   @GetMapping("/all")
   @PreAuthorize("hasRole('ADMIN')")
-  public ResponseEntity<ResponseData<PageResponse<List<JobResponse>>>> getAll(
+  public ResponseEntity<ResponseData<PageResponse<List<JobCardResponse>>>> getAll(
       @RequestParam(defaultValue = "1") @Min(value = 1, message = "{validation.page.number.min}")
           int pageNumber,
       @RequestParam(defaultValue = "10") @Min(value = 1, message = "{validation.page.size.min}")
@@ -117,10 +154,27 @@ public class JobController {
       @RequestParam(required = false) @Min(value = 1, message = "{validation.id.min}")
           Long provinceId,
       @RequestParam(required = false) List<String> sorts,
-      @RequestParam(defaultValue = "") String keyword) {
+      @RequestParam(defaultValue = "") String keyword,
+      @RequestParam(required = false) String cursor,
+      @ValueOfEnum(
+              enumClass = CountMode.class,
+              message = "{error.invalid.count.mode.enum}",
+              required = false)
+          @RequestParam(required = false)
+          String countMode) {
 
-    PageResponse<List<JobResponse>> response =
-        service.getAllJobs(pageNumber, pageSize, industryId, provinceId, sorts, keyword);
+    rejectSortsWithCursor(cursor, sorts);
+    PageResponse<List<JobCardResponse>> response =
+        cursor != null
+            ? service.getAllJobsByCursor(cursor, pageSize, industryId, provinceId, keyword)
+            : service.getAllJobs(
+                pageNumber,
+                pageSize,
+                industryId,
+                provinceId,
+                sorts,
+                keyword,
+                CountMode.fromValue(countMode));
     String message =
         messageSource.getMessage("job.get.list.success", null, LocaleContextHolder.getLocale());
     return ResponseBuilder.withData(HttpStatus.OK, message, response);
@@ -138,25 +192,53 @@ public class JobController {
       @RequestParam(required = false) @Min(value = 1, message = "{validation.id.min}")
           Long provinceId,
       @RequestParam(required = false) List<String> sorts,
-      @RequestParam(defaultValue = "") String keyword) {
+      @RequestParam(defaultValue = "") String keyword,
+      @RequestParam(required = false) String cursor,
+      @ValueOfEnum(
+              enumClass = CountMode.class,
+              message = "{error.invalid.count.mode.enum}",
+              required = false)
+          @RequestParam(required = false)
+          String countMode) {
 
+    rejectSortsWithCursor(cursor, sorts);
     PageResponse<List<JobResponse>> response =
-        service.getMyJobs(pageNumber, pageSize, industryId, provinceId, sorts, keyword);
+        cursor != null
+            ? service.getMyJobsByCursor(cursor, pageSize, industryId, provinceId, keyword)
+            : service.getMyJobs(
+                pageNumber,
+                pageSize,
+                industryId,
+                provinceId,
+                sorts,
+                keyword,
+                CountMode.fromValue(countMode));
     String message =
         messageSource.getMessage("job.get.list.success", null, LocaleContextHolder.getLocale());
     return ResponseBuilder.withData(HttpStatus.OK, message, response);
   }
 
   @GetMapping("/openings/{employerId}")
-  public ResponseEntity<ResponseData<PageResponse<List<JobResponse>>>> getHiringJobs(
+  public ResponseEntity<ResponseData<PageResponse<List<JobCardResponse>>>> getHiringJobs(
       @RequestParam(defaultValue = "1") @Min(value = 1, message = "{validation.page.number.min}")
           int pageNumber,
       @RequestParam(defaultValue = "10") @Min(value = 1, message = "{validation.page.size.min}")
           int pageSize,
       @RequestParam(required = false) List<String> sorts,
-      @PathVariable @Min(value = 1, message = "{validation.id.min}") Long employerId) {
-    PageResponse<List<JobResponse>> response =
-        service.getHiringJobs(employerId, pageNumber, pageSize, sorts);
+      @RequestParam(required = false) String cursor,
+      @PathVariable @Min(value = 1, message = "{validation.id.min}") Long employerId,
+      @ValueOfEnum(
+              enumClass = CountMode.class,
+              message = "{error.invalid.count.mode.enum}",
+              required = false)
+          @RequestParam(required = false)
+          String countMode) {
+    rejectSortsWithCursor(cursor, sorts);
+    PageResponse<List<JobCardResponse>> response =
+        cursor != null
+            ? service.getHiringJobsByCursor(employerId, cursor, pageSize)
+            : service.getHiringJobs(
+                employerId, pageNumber, pageSize, sorts, CountMode.fromValue(countMode));
     String message =
         messageSource.getMessage(
             "job.get.hiring.job.success", null, LocaleContextHolder.getLocale());
@@ -218,12 +300,12 @@ public class JobController {
   }
 
   @GetMapping("/top-attractive")
-  public ResponseEntity<ResponseData<List<JobResponse>>> getTopAttractive(
+  public ResponseEntity<ResponseData<List<JobCardResponse>>> getTopAttractive(
       @RequestParam(defaultValue = "10") @Min(value = 1, message = "{validation.limit.min}")
           Integer limit,
       @RequestParam(required = false) @Min(value = 1, message = "{validation.id.min}")
           Long industryId) {
-    List<JobResponse> response = service.getTopAttractiveJobs(limit, industryId);
+    List<JobCardResponse> response = service.getTopAttractiveJobs(limit, industryId);
     String message =
         messageSource.getMessage(
             "job.get.top.attractive.success", null, LocaleContextHolder.getLocale());
@@ -239,6 +321,25 @@ public class JobController {
     return ResponseBuilder.withData(HttpStatus.CREATED, message, dto);
   }
 
+  @PostMapping(
+      value = "/bulk",
+      consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  @PreAuthorize("hasRole('EMPLOYER')")
+  public ResponseEntity<ResponseData<BulkJobCreateResponse>> bulkCreate(InputStream body)
+      throws IOException {
+    // A JSON array is unwrapped and NDJSON is read as a sequence of root values, one job at a time
+    try (MappingIterator<JobRequest> requests =
+        objectMapper.readerFor(JobRequest.class).readValues(body)) {
+      BulkJobCreateResponse dto = service.bulkCreate(requests);
+      String message =
+          messageSource.getMessage(
+              "job.bulk.create.success",
+              new Object[] {dto.getCreated(), dto.getReceived()},
+              LocaleContextHolder.getLocale());
+      return ResponseBuilder.withData(HttpStatus.CREATED, message, dto);
+    }
+  }
+
   @PutMapping("/{id}")
   @PreAuthorize("hasRole('EMPLOYER')")
   public ResponseEntity<ResponseData<JobResponse>> update(
@@ -285,15 +386,22 @@ public class JobController {
   }
 
   @GetMapping("/personalized")
-  public ResponseEntity<ResponseData<List<JobResponse>>> getPersonalized(
+  public ResponseEntity<ResponseData<List<JobCardResponse>>> getPersonalized(
       @RequestParam(defaultValue = "10") @Min(value = 1, message = "{validation.limit.min}")
           Integer limit) {
 
-    List<JobResponse> response = service.getPersonalizedJobsForCaller(limit);
+    List<JobCardResponse> response = service.getPersonalizedJobsForCaller(limit);
 
     String message =
         messageSource.getMessage(
             "job.get.personalized.success", null, LocaleContextHolder.getLocale());
     return ResponseBuilder.withData(HttpStatus.OK, message, response);
   }
+
+  /** Cursor pages are ordered by {@code createdAt} and id only, so sorts cannot be honoured. */
+  private void rejectSortsWithCursor(String cursor, List<String> sorts) {
+    if (cursor != null && sorts != null && !sorts.isEmpty()) {
+      throw new AppException(ErrorCode.CURSOR_SORT_NOT_SUPPORTED);
+    }
+  }
 }
@@ -0,0 +1,82 @@
+package beworkify.controller;
+
+import beworkify.dto.request.SearchSynonymsRequest;
+import beworkify.dto.response.ReindexStatusResponse;
+import beworkify.dto.response.ResponseData;
+import beworkify.dto.response.SearchSynonymsResponse;
+import beworkify.enumeration.ErrorCode;
+import beworkify.enumeration.ReindexState;
+import beworkify.exception.AppException;
+import beworkify.search.service.JobSearchService;
+import beworkify.search.service.SearchSynonymService;
+import beworkify.util.ResponseBuilder;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for administering the job search index. Provides endpoints to rebuild the index,
+ * to follow the progress of a rebuild and to manage the search synonyms.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/search/jobs")
+public class JobSearchController {
+
+  private final JobSearchService jobSearchService;
+  private final SearchSynonymService searchSynonymService;
+  private final MessageSource messageSource;
+
+  @PostMapping("/reindex")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<ResponseData<ReindexStatusResponse>> reindex() {
+    if (jobSearchService.getReindexStatus().getState() == ReindexState.RUNNING) {
+      throw new AppException(ErrorCode.REINDEX_IN_PROGRESS);
+    }
+    jobSearchService.reindex();
+    String message =
+        messageSource.getMessage(
+            "job.search.reindex.started", null, LocaleContextHolder.getLocale());
+    return ResponseBuilder.withData(
+        HttpStatus.ACCEPTED, message, jobSearchService.getReindexStatus());
+  }
+
+  @GetMapping("/reindex")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<ResponseData<ReindexStatusResponse>> getReindexStatus() {
+    ReindexStatusResponse response = jobSearchService.getReindexStatus();
+    String message =
+        messageSource.getMessage(
+            "job.search.reindex.status.success", null, LocaleContextHolder.getLocale());
+    return ResponseBuilder.withData(HttpStatus.OK, message, response);
+  }
+
+  @GetMapping("/synonyms")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<ResponseData<SearchSynonymsResponse>> getSynonyms() {
+    SearchSynonymsResponse response = searchSynonymService.getSynonyms();
+    String message =
+        messageSource.getMessage(
+            "job.search.synonyms.get.success", null, LocaleContextHolder.getLocale());
+    return ResponseBuilder.withData(HttpStatus.OK, message, response);
+  }
+
+  @PutMapping("/synonyms")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<ResponseData<SearchSynonymsResponse>> replaceSynonyms(
+      @RequestBody @Valid SearchSynonymsRequest request) {
+    SearchSynonymsResponse response = searchSynonymService.replaceSynonyms(request.getRules());
+    String message =
+        messageSource.getMessage(
+            "job.search.synonyms.update.success", null, LocaleContextHolder.getLocale());
+    return ResponseBuilder.withData(HttpStatus.OK, message, response);
+  }
+}
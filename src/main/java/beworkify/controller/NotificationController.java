@@ -3,8 +3,10 @@ package beworkify.controller;
 import beworkify.dto.response.NotificationResponse;
 import beworkify.dto.response.PageResponse;
 import beworkify.dto.response.ResponseData;
+import beworkify.enumeration.CountMode;
 import beworkify.service.NotificationService;
 import beworkify.util.ResponseBuilder;
+import beworkify.validation.annotation.ValueOfEnum;
 import jakarta.validation.constraints.Min;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -38,9 +40,16 @@ public class NotificationController {
       @RequestParam(defaultValue = "1") @Min(value = 1, message = "{validation.page.number.min}")
           int pageNumber,
       @RequestParam(defaultValue = "10") @Min(value = 1, message = "{validation.page.size.min}")
-          int pageSize) {
+          int pageSize,
+      @ValueOfEnum(
+              enumClass = CountMode.class,
+              message = "{error.invalid.count.mode.enum}",
+              required = false)
+          @RequestParam(required = false)
+          String countMode) {
     PageResponse<List<NotificationResponse>> response =
-        notificationService.getMyNotifications(pageNumber, pageSize);
+        notificationService.getMyNotifications(
+            pageNumber, pageSize, CountMode.fromValue(countMode));
     String message =
         messageSource.getMessage("notification.get.success", null, LocaleContextHolder.getLocale());
     return ResponseBuilder.withData(HttpStatus.OK, message, response);
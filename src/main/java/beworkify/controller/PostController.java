@@ -4,6 +4,7 @@ import beworkify.dto.request.PostRequest;
 import beworkify.dto.response.PageResponse;
 import beworkify.dto.response.PostResponse;
 import beworkify.dto.response.ResponseData;
+import beworkify.enumeration.CountMode;
 import beworkify.enumeration.ErrorCode;
 import beworkify.enumeration.StatusPost;
 import beworkify.exception.AppException;
@@ -62,9 +63,23 @@ public class PostController {
           int pageSize,
       @RequestParam(required = false) List<String> sorts,
       @RequestParam(defaultValue = "") String keyword,
-      @RequestParam(required = false) Long categoryId) {
+      @RequestParam(required = false) Long categoryId,
+      @ValueOfEnum(
+              enumClass = CountMode.class,
+              message = "{error.invalid.count.mode.enum}",
+              required = false)
+          @RequestParam(required = false)
+          String countMode) {
     PageResponse<List<PostResponse>> response;
-    response = service.getAll(pageNumber, pageSize, sorts, keyword, categoryId, false);
+    response =
+        service.getAll(
+            pageNumber,
+            pageSize,
+            sorts,
+            keyword,
+            categoryId,
+            false,
+            CountMode.fromValue(countMode));
     String message =
         messageSource.getMessage("post.get.list.success", null, LocaleContextHolder.getLocale());
     return ResponseBuilder.withData(HttpStatus.OK, message, response);
@@ -78,9 +93,16 @@ public class PostController {
           int pageSize,
       @RequestParam(required = false) List<String> sorts,
       @RequestParam(defaultValue = "") String keyword,
-      @RequestParam(required = false) Long categoryId) {
+      @RequestParam(required = false) Long categoryId,
+      @ValueOfEnum(
+              enumClass = CountMode.class,
+              message = "{error.invalid.count.mode.enum}",
+              required = false)
+          @RequestParam(required = false)
+          String countMode) {
     PageResponse<List<PostResponse>> response =
-        service.getAll(pageNumber, pageSize, sorts, keyword, categoryId, true);
+        service.getAll(
+            pageNumber, pageSize, sorts, keyword, categoryId, true, CountMode.fromValue(countMode));
     String message =
         messageSource.getMessage("post.get.list.success", null, LocaleContextHolder.getLocale());
     return ResponseBuilder.withData(HttpStatus.OK, message, response);
@@ -1,6 +1,6 @@
 package beworkify.controller;
 
-import beworkify.dto.response.JobResponse;
+import beworkify.dto.response.JobCardResponse;
 import beworkify.dto.response.PageResponse;
 import beworkify.dto.response.ResponseData;
 import beworkify.service.SavedJobService;
@@ -44,12 +44,12 @@ public class SavedJobController {
 
   @GetMapping
   @PreAuthorize("hasRole('JOB_SEEKER') or hasRole('ADMIN')")
-  public ResponseEntity<ResponseData<PageResponse<List<JobResponse>>>> getSavedJobs(
+  public ResponseEntity<ResponseData<PageResponse<List<JobCardResponse>>>> getSavedJobs(
       @RequestParam(defaultValue = "1") @Min(value = 1, message = "{validation.page.number.min}")
           int pageNumber,
       @RequestParam(defaultValue = "10") @Min(value = 1, message = "{validation.page.size.min}")
           int pageSize) {
-    PageResponse<List<JobResponse>> response = service.getSavedJobs(pageNumber, pageSize);
+    PageResponse<List<JobCardResponse>> response = service.getSavedJobs(pageNumber, pageSize);
     String message =
         messageSource.getMessage(
             "saved_job.get.list.success", null, LocaleContextHolder.getLocale());
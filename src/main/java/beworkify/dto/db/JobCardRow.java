@@ -0,0 +1,35 @@
+package beworkify.dto.db;
+
+import beworkify.enumeration.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Row of the job card projection query. Holds the scalar job columns a listing card needs and the
+ * author summary, so card listings never load the text columns or the job collections.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+public record JobCardRow(
+    Long id,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    String companyName,
+    String jobTitle,
+    SalaryType salaryType,
+    Double minSalary,
+    Double maxSalary,
+    SalaryUnit salaryUnit,
+    ExperienceLevel experienceLevel,
+    JobLevel jobLevel,
+    JobType jobType,
+    LocalDate expirationDate,
+    JobStatus status,
+    Integer applicationCount,
+    Long authorId,
+    String authorEmail,
+    String authorCompanyName,
+    String authorAvatarUrl,
+    String authorBackgroundUrl,
+    String authorEmployerSlug) {}
@@ -0,0 +1,64 @@
+package beworkify.dto.request;
+
+import beworkify.enumeration.EducationLevel;
+import beworkify.enumeration.ExperienceLevel;
+import beworkify.enumeration.JobLevel;
+import beworkify.enumeration.JobType;
+import beworkify.enumeration.SalaryUnit;
+import beworkify.validation.annotation.ValueOfEnum;
+import beworkify.validation.annotation.ValueOfEnumList;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO for creating a job alert. Carries the same criteria as the advanced job search.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobAlertRequest {
+
+  @Size(max = 255, message = "{validation.job.alert.keyword.size}")
+  private String keyword;
+
+  private List<Long> industryIds;
+
+  private List<Long> provinceIds;
+
+  @ValueOfEnumList(enumClass = JobLevel.class, message = "{error.invalid.job.level.enum}")
+  private List<String> jobLevels;
+
+  @ValueOfEnumList(enumClass = JobType.class, message = "{error.invalid.job.type.enum}")
+  private List<String> jobTypes;
+
+  @ValueOfEnumList(
+      enumClass = ExperienceLevel.class,
+      message = "{error.invalid.experience.level.enum}")
+  private List<String> experienceLevels;
+
+  @ValueOfEnumList(
+      enumClass = EducationLevel.class,
+      message = "{error.invalid.education.level.enum}")
+  private List<String> educationLevels;
+
+  @DecimalMin(value = "0.0", message = "{validation.job.minSalary.min}")
+  private Double minSalary;
+
+  @DecimalMin(value = "0.0", message = "{validation.job.maxSalary.min}")
+  private Double maxSalary;
+
+  @ValueOfEnum(
+      enumClass = SalaryUnit.class,
+      message = "{error.invalid.salary.unit.enum}",
+      required = false)
+  private String salaryUnit;
+}
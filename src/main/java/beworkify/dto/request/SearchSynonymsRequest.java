@@ -0,0 +1,28 @@
+package beworkify.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO for replacing the job search synonyms. Each rule uses the Solr synonym format, e.g. {@code
+ * "developer, dev, lập trình viên"} or {@code "js => javascript"}.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchSynonymsRequest {
+
+  @NotEmpty(message = "{validation.synonyms.not.empty}")
+  @Size(max = 10000, message = "{validation.synonyms.size}")
+  private List<@NotBlank(message = "{validation.synonym.rule.not.blank}") String> rules;
+}
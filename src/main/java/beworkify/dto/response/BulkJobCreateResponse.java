@@ -0,0 +1,33 @@
+package beworkify.dto.response;
+
+import java.util.List;
+import lombok.*;
+
+/**
+ * DTO for bulk job creation response. Contains the ids of the created jobs and the reason every
+ * rejected item was skipped, keyed by its position in the request.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobCreateResponse {
+  private int received;
+  private int created;
+  private List<Long> jobIds;
+  private List<ItemError> errors;
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class ItemError {
+    private int index;
+    private String message;
+  }
+}
@@ -0,0 +1,21 @@
+package beworkify.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO for a single facet value of a search, with the number of matching documents.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetBucketResponse {
+  private String key;
+  private long count;
+}
@@ -0,0 +1,32 @@
+package beworkify.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * DTO for job alert response. Contains the saved search criteria of a job alert.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+public class JobAlertResponse extends BaseResponse {
+  private String keyword;
+  private List<Long> industryIds;
+  private List<Long> provinceIds;
+  private List<String> jobLevels;
+  private List<String> jobTypes;
+  private List<String> experienceLevels;
+  private List<String> educationLevels;
+  private Double minSalary;
+  private Double maxSalary;
+  private String salaryUnit;
+}
@@ -0,0 +1,40 @@
+package beworkify.dto.response;
+
+import beworkify.enumeration.*;
+import java.time.LocalDate;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * DTO for job cards in listings. Carries only what a card renders (title, company, salary,
+ * locations, industries, deadline) and none of the long text columns of {@link JobResponse}.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+public class JobCardResponse extends BaseResponse {
+  private String companyName;
+  private String jobTitle;
+  private Set<LocationResponse> jobLocations;
+  private SalaryType salaryType;
+  private Double minSalary;
+  private Double maxSalary;
+  private SalaryUnit salaryUnit;
+  private ExperienceLevel experienceLevel;
+  private JobLevel jobLevel;
+  private JobType jobType;
+  private Set<IndustryResponse> industries;
+  private LocalDate expirationDate;
+  private JobStatus status;
+  private EmployerSummaryResponse author;
+  private Integer numberOfApplications;
+}
@@ -1,5 +1,8 @@
 package beworkify.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,4 +27,13 @@ public class PageResponse<T> {
   private Integer totalPages;
   private Integer numberOfElements;
   private T items;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String nextCursor;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Boolean hasNext;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Map<String, List<FacetBucketResponse>> facets;
 }
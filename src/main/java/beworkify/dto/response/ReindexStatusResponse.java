@@ -0,0 +1,34 @@
+package beworkify.dto.response;
+
+import beworkify.enumeration.ReindexState;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO for the progress of a search index rebuild.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReindexStatusResponse {
+  private ReindexState state;
+  private String targetIndex;
+  private Long total;
+  private Long indexed;
+  private Long failed;
+  private Double documentsPerSecond;
+  private LocalDateTime startedAt;
+  private LocalDateTime finishedAt;
+  private String error;
+}
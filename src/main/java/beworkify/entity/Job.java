@@ -8,6 +8,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -116,6 +117,22 @@ public class Job extends BaseEntity {
   @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, orphanRemoval = true)
   private Set<Application> applications;
 
+  // Counters are only changed by the @Modifying updates of JobRepository, never by a flush
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Integer applicationCount = 0;
+
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Integer saveCount = 0;
+
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private Long viewCount = 0L;
+
   @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, orphanRemoval = true)
   private Set<SavedJob> savedJobs;
 }
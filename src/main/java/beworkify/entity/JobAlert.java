@@ -0,0 +1,63 @@
+package beworkify.entity;
+
+import jakarta.persistence.*;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Entity class representing a job alert. A saved search of a job seeker, using the same filters as
+ * the advanced job search, that notifies them when a matching job is approved.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+    name = "job_alerts",
+    indexes = {@Index(name = "idx_job_alerts_user", columnList = "user_id")})
+public class JobAlert extends BaseEntity {
+  @ManyToOne
+  @JoinColumn(nullable = false, name = "user_id")
+  private User user;
+
+  private String keyword;
+
+  @Column(columnDefinition = "jsonb")
+  @JdbcTypeCode(SqlTypes.JSON)
+  private List<Long> industryIds;
+
+  @Column(columnDefinition = "jsonb")
+  @JdbcTypeCode(SqlTypes.JSON)
+  private List<Long> provinceIds;
+
+  @Column(columnDefinition = "jsonb")
+  @JdbcTypeCode(SqlTypes.JSON)
+  private List<String> jobLevels;
+
+  @Column(columnDefinition = "jsonb")
+  @JdbcTypeCode(SqlTypes.JSON)
+  private List<String> jobTypes;
+
+  @Column(columnDefinition = "jsonb")
+  @JdbcTypeCode(SqlTypes.JSON)
+  private List<String> experienceLevels;
+
+  @Column(columnDefinition = "jsonb")
+  @JdbcTypeCode(SqlTypes.JSON)
+  private List<String> educationLevels;
+
+  private Double minSalary;
+  private Double maxSalary;
+  private String salaryUnit;
+}
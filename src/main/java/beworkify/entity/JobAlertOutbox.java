@@ -0,0 +1,39 @@
+package beworkify.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity class representing a pending percolator change of a job alert. A row is written in the
+ * same transaction as the alert change it records and is removed once the alert has been shipped to
+ * Elasticsearch.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+    name = "job_alert_outbox",
+    indexes = {@Index(name = "idx_job_alert_outbox_available", columnList = "availableAt, id")})
+public class JobAlertOutbox extends BaseEntity {
+  @Column(nullable = false)
+  private Long alertId;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private Integer attempts = 0;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private LocalDateTime availableAt = LocalDateTime.now();
+}
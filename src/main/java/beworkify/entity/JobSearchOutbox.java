@@ -0,0 +1,38 @@
+package beworkify.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity class representing a pending search index change. A row is written in the same transaction
+ * as the job change it records and is removed once the job has been shipped to Elasticsearch.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+    name = "job_search_outbox",
+    indexes = {@Index(name = "idx_job_search_outbox_available", columnList = "availableAt, id")})
+public class JobSearchOutbox extends BaseEntity {
+  @Column(nullable = false)
+  private Long jobId;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private Integer attempts = 0;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private LocalDateTime availableAt = LocalDateTime.now();
+}
@@ -0,0 +1,35 @@
+package beworkify.enumeration;
+
+import beworkify.exception.AppException;
+import lombok.Getter;
+
+/**
+ * Enumeration for how list endpoints compute their totals. {@code EXACT} runs a COUNT query, {@code
+ * NONE} only reports whether a next page exists and {@code APPROXIMATE} reuses a recently cached
+ * count for the same filter.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Getter
+public enum CountMode {
+  EXACT("EXACT"),
+  NONE("NONE"),
+  APPROXIMATE("APPROXIMATE");
+
+  private final String value;
+
+  CountMode(String value) {
+    this.value = value;
+  }
+
+  public static CountMode fromValue(String value) {
+    if (value == null || value.isBlank()) return EXACT;
+    for (CountMode mode : CountMode.values()) {
+      if (mode.getValue().equalsIgnoreCase(value)) {
+        return mode;
+      }
+    }
+    throw new AppException(ErrorCode.INVALID_COUNT_MODE_ENUM);
+  }
+}
@@ -39,7 +39,14 @@ public enum ErrorCode {
   MESSAGE_NOT_FOUND(404, "error.message.not.found"),
   NOT_CONVERSATION_PARTICIPANT(403, "error.not.conversation.participant"),
   APPLICANT_CANNOT_INITIATE(403, "error.applicant.cannot.initiate.conversation"),
-  APPLICANT_MUST_WAIT_RECRUITER(403, "error.applicant.must.wait.recruiter");
+  APPLICANT_MUST_WAIT_RECRUITER(403, "error.applicant.must.wait.recruiter"),
+  INVALID_CURSOR(400, "error.invalid.cursor"),
+  CURSOR_SORT_NOT_SUPPORTED(400, "error.cursor.sort.not.supported"),
+  INVALID_COUNT_MODE_ENUM(410, "error.invalid.count.mode.enum"),
+  REINDEX_IN_PROGRESS(409, "error.reindex.in.progress"),
+  JOB_ALERT_NOT_FOUND(404, "error.job.alert.not.found"),
+  JOB_ALERT_LIMIT_EXCEEDED(400, "error.job.alert.limit.exceeded"),
+  INVALID_SYNONYM_RULES(400, "error.invalid.synonym.rules");
 
   private final int code;
   private final String message;
@@ -0,0 +1,14 @@
+package beworkify.enumeration;
+
+/**
+ * Enumeration for the state of a search index rebuild.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+public enum ReindexState {
+  IDLE,
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
@@ -0,0 +1,24 @@
+package beworkify.mapper;
+
+import beworkify.dto.request.JobAlertRequest;
+import beworkify.dto.response.JobAlertResponse;
+import beworkify.entity.JobAlert;
+import java.util.List;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper for converting between JobAlert entity and DTOs.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface JobAlertMapper {
+
+  JobAlert toEntity(JobAlertRequest request);
+
+  JobAlertResponse toDTO(JobAlert entity);
+
+  List<JobAlertResponse> toDTOs(List<JobAlert> entities);
+}
@@ -1,9 +1,11 @@
 package beworkify.mapper;
 
 import beworkify.dto.db.JobBenefit;
+import beworkify.dto.db.JobCardRow;
 import beworkify.dto.request.JobRequest;
 import beworkify.dto.response.EmployerSummaryResponse;
 import beworkify.dto.response.IndustryResponse;
+import beworkify.dto.response.JobCardResponse;
 import beworkify.dto.response.JobResponse;
 import beworkify.entity.Job;
 import beworkify.enumeration.BenefitType;
@@ -43,10 +45,22 @@ public interface JobMapper {
   Job toEntity(JobRequest request);
 
   @Mapping(target = "author", ignore = true)
+  @Mapping(target = "numberOfApplications", source = "applicationCount")
   JobResponse toDTO(Job entity);
 
   List<JobResponse> toDTOs(List<Job> entities);
 
+  @Mapping(target = "jobLocations", ignore = true)
+  @Mapping(target = "industries", ignore = true)
+  @Mapping(target = "numberOfApplications", source = "applicationCount")
+  @Mapping(target = "author.id", source = "authorId")
+  @Mapping(target = "author.email", source = "authorEmail")
+  @Mapping(target = "author.companyName", source = "authorCompanyName")
+  @Mapping(target = "author.avatarUrl", source = "authorAvatarUrl")
+  @Mapping(target = "author.backgroundUrl", source = "authorBackgroundUrl")
+  @Mapping(target = "author.employerSlug", source = "authorEmployerSlug")
+  JobCardResponse toCardDTO(JobCardRow row);
+
   @Mapping(target = "jobLocations", ignore = true)
   @Mapping(target = "contactLocation", ignore = true)
   @Mapping(
@@ -50,12 +50,15 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
       @Param("thresholdDateTime") LocalDateTime thresholdDateTime,
       Pageable pageable);
 
-  long countByJobId(Long jobId);
-
   @Query(
-      "SELECT a.job.id AS jobId, COUNT(a) AS cnt "
+      "SELECT ji.industry.id, COUNT(DISTINCT j.id) "
           + "FROM Application a "
-          + "WHERE a.job.id IN :jobIds "
-          + "GROUP BY a.job.id")
-  List<Object[]> countByJobIds(@Param("jobIds") List<Long> jobIds);
+          + "JOIN a.job j "
+          + "JOIN j.jobIndustries ji "
+          + "WHERE a.user.id = :userId "
+          + "GROUP BY ji.industry.id")
+  List<Object[]> countIndustriesByUserId(@Param("userId") Long userId);
+
+  @Query("SELECT DISTINCT a.job.id FROM Application a WHERE a.user.id = :userId")
+  List<Long> findJobIdsByUserId(@Param("userId") Long userId);
 }
@@ -2,6 +2,7 @@ package beworkify.repository;
 
 import beworkify.entity.District;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -20,4 +21,7 @@ public interface DistrictRepository extends JpaRepository<District, Long> {
   java.util.List<District> findAllByOrderByNameAsc();
 
   java.util.List<District> findAllByProvinceIdOrderByNameAsc(Long provinceId);
+
+  @Query("SELECT d FROM District d JOIN FETCH d.province")
+  java.util.List<District> findAllWithProvince();
 }
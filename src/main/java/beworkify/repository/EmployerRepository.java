@@ -5,6 +5,7 @@ import beworkify.enumeration.LevelCompanySize;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,7 +26,7 @@ public interface EmployerRepository extends JpaRepository<Employer, Long> {
 
   boolean existsByEmailAndIdNot(String email, Long id);
 
-  @Query(
+  String SEARCH_EMPLOYERS_QUERY =
       "SELECT e "
           + "FROM Employer e "
           + "WHERE (:keyword IS NULL "
@@ -33,11 +34,21 @@ public interface EmployerRepository extends JpaRepository<Employer, Long> {
           + "       OR lower(e.email) LIKE %:keyword%) "
           + "  AND (:companySize IS NULL OR e.companySize = :companySize) "
           + "  AND (:provinceId IS NULL OR e.province.id = :provinceId) "
-          + "  AND (:isAdmin = true OR e.status = beworkify.enumeration.StatusUser.ACTIVE)")
+          + "  AND (:isAdmin = true OR e.status = beworkify.enumeration.StatusUser.ACTIVE)";
+
+  @Query(SEARCH_EMPLOYERS_QUERY)
   Page<Employer> searchEmployers(
       @Param("keyword") String keyword,
       @Param("companySize") LevelCompanySize companySize,
       @Param("provinceId") Long provinceId,
       @Param("isAdmin") boolean isAdmin,
       Pageable pageable);
+
+  @Query(SEARCH_EMPLOYERS_QUERY)
+  Slice<Employer> sliceSearchEmployers(
+      @Param("keyword") String keyword,
+      @Param("companySize") LevelCompanySize companySize,
+      @Param("provinceId") Long provinceId,
+      @Param("isAdmin") boolean isAdmin,
+      Pageable pageable);
 }
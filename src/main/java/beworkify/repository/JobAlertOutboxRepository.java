@@ -0,0 +1,34 @@
+package beworkify.repository;
+
+import beworkify.entity.JobAlertOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing JobAlertOutbox entities. Provides the claim query used by the
+ * outbox dispatcher.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Repository
+public interface JobAlertOutboxRepository extends JpaRepository<JobAlertOutbox, Long> {
+
+  /**
+   * Locks the oldest due entries for the current transaction, skipping entries another dispatcher
+   * is already working on.
+   */
+  @Query(
+      value =
+          "SELECT * FROM job_alert_outbox "
+              + "WHERE available_at <= :now "
+              + "ORDER BY id "
+              + "LIMIT :limit "
+              + "FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<JobAlertOutbox> claimDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,30 @@
+package beworkify.repository;
+
+import beworkify.entity.JobAlert;
+import beworkify.entity.User;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for JobAlert entity.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Repository
+public interface JobAlertRepository extends JpaRepository<JobAlert, Long> {
+
+  List<JobAlert> findByUser_IdOrderByCreatedAtDesc(Long userId);
+
+  Optional<JobAlert> findByIdAndUser_Id(Long id, Long userId);
+
+  long countByUser_Id(Long userId);
+
+  @Query("SELECT DISTINCT a.user FROM JobAlert a WHERE a.id IN :ids")
+  List<User> findUsersByAlertIds(@Param("ids") Collection<Long> ids);
+}
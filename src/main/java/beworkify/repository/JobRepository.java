@@ -1,15 +1,23 @@
 package beworkify.repository;
 
+import beworkify.dto.db.JobCardRow;
 import beworkify.entity.Industry;
 import beworkify.entity.Job;
 import beworkify.entity.Province;
 import beworkify.repository.custom.JobRepositoryCustom;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -23,23 +31,56 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCustom {
 
-  @Query(
-      "SELECT j.id "
-          + "FROM Job j "
-          + "WHERE (:keyword IS NULL OR :keyword = '' "
-          + "       OR lower(j.jobTitle) LIKE %:keyword% "
-          + "       OR lower(j.companyName) LIKE %:keyword% "
-          + "       OR lower(j.jobDescription) LIKE %:keyword% "
-          + "       OR lower(j.requirement) LIKE %:keyword%) "
-          + "  AND (:provinceId IS NULL "
+  /**
+   * Accent-insensitive keyword filter. Title and company name are matched as substrings through
+   * trigram indexes, the whole posting (including description and requirement) through the
+   * full-text index. See {@link beworkify.configuration.SearchFunctionContributor}.
+   */
+  String KEYWORD_FILTER =
+      "(:keyword IS NULL OR :keyword = '' "
+          + "       OR unaccent_lower(j.jobTitle) LIKE CONCAT('%', unaccent_lower(:keyword), '%') "
+          + "       OR unaccent_lower(j.companyName) LIKE CONCAT('%', unaccent_lower(:keyword), '%') "
+          + "       OR job_text_match(j.jobTitle, j.companyName, j.jobDescription, j.requirement, "
+          + "                         :keyword)) ";
+
+  /**
+   * Shared by the counted ({@link Page}) and count-free ({@link Slice}) variants of the listing
+   * queries below, so both always apply the same filter.
+   */
+  String JOB_LOCATION_INDUSTRY_FILTER =
+      "  AND (:provinceId IS NULL "
           + "       OR EXISTS (SELECT 1 "
           + "                  FROM j.jobLocations loc "
           + "                  WHERE loc.province.id = :provinceId)) "
           + "  AND (:industryId IS NULL "
           + "       OR EXISTS (SELECT 1 "
           + "                  FROM j.jobIndustries ji2 "
-          + "                  WHERE ji2.industry.id = :industryId)) "
-          + "  AND (:authorEmail IS NULL OR j.author.email = :authorEmail)")
+          + "                  WHERE ji2.industry.id = :industryId)) ";
+
+  String ALL_JOB_IDS_QUERY =
+      "SELECT j.id FROM Job j WHERE " + KEYWORD_FILTER + JOB_LOCATION_INDUSTRY_FILTER;
+
+  String MY_JOB_IDS_QUERY =
+      ALL_JOB_IDS_QUERY + "  AND (:authorEmail IS NULL OR j.author.email = :authorEmail)";
+
+  String HIRING_JOB_IDS_QUERY =
+      "SELECT j.id "
+          + "FROM Job j "
+          + "WHERE j.status = beworkify.enumeration.JobStatus.APPROVED "
+          + "  AND j.author.id = :employerId";
+
+  /**
+   * Keyset condition appended to the offset queries above to build their cursor variants, which
+   * always page newest first. Requested sorts are rejected together with a cursor.
+   */
+  String AFTER_CURSOR_FILTER =
+      "  AND (CAST(:cursorCreatedAt AS LocalDateTime) IS NULL "
+          + "       OR j.createdAt < :cursorCreatedAt "
+          + "       OR (j.createdAt = :cursorCreatedAt AND j.id < :cursorId)) ";
+
+  String CURSOR_ORDER = "ORDER BY j.createdAt DESC, j.id DESC";
+
+  @Query(MY_JOB_IDS_QUERY)
   Page<Long> findIdsMyJobs(
       @Param("provinceId") Long provinceId,
       @Param("industryId") Long industryId,
@@ -47,6 +88,14 @@ public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCu
       @Param("authorEmail") String authorEmail,
       Pageable pageable);
 
+  @Query(MY_JOB_IDS_QUERY)
+  Slice<Long> sliceIdsMyJobs(
+      @Param("provinceId") Long provinceId,
+      @Param("industryId") Long industryId,
+      @Param("keyword") String keyword,
+      @Param("authorEmail") String authorEmail,
+      Pageable pageable);
+
   @EntityGraph(
       attributePaths = {
         "author",
@@ -59,27 +108,121 @@ public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCu
   List<Job> fetchJobsByIds(@Param("ids") List<Long> ids);
 
   @Query(
-      "SELECT j.id "
+      "SELECT new beworkify.dto.db.JobCardRow("
+          + "  j.id, j.createdAt, j.updatedAt, j.companyName, j.jobTitle, "
+          + "  j.salaryType, j.minSalary, j.maxSalary, j.salaryUnit, "
+          + "  j.experienceLevel, j.jobLevel, j.jobType, j.expirationDate, j.status, "
+          + "  j.applicationCount, "
+          + "  a.id, a.email, a.companyName, a.avatarUrl, a.backgroundUrl, a.employerSlug) "
           + "FROM Job j "
-          + "WHERE (:keyword IS NULL OR :keyword = '' "
-          + "       OR lower(j.jobTitle) LIKE %:keyword% "
-          + "       OR lower(j.companyName) LIKE %:keyword% "
-          + "       OR lower(j.jobDescription) LIKE %:keyword% "
-          + "       OR lower(j.requirement) LIKE %:keyword%) "
-          + "  AND (:provinceId IS NULL "
-          + "       OR EXISTS (SELECT 1 "
-          + "                  FROM j.jobLocations loc "
-          + "                  WHERE loc.province.id = :provinceId)) "
-          + "  AND (:industryId IS NULL "
-          + "       OR EXISTS (SELECT 1 "
-          + "                  FROM j.jobIndustries ji2 "
-          + "                  WHERE ji2.industry.id = :industryId))")
+          + "JOIN j.author a "
+          + "WHERE j.id IN :ids")
+  List<JobCardRow> findJobCardsByIds(@Param("ids") List<Long> ids);
+
+  @Query(
+      "SELECT l.job.id, l.id, l.province.id, l.district.id, l.detailAddress "
+          + "FROM Location l "
+          + "WHERE l.job.id IN :ids")
+  List<Object[]> findLocationRowsByJobIds(@Param("ids") List<Long> ids);
+
+  @Query("SELECT ji.job.id, ji.industry.id " + "FROM JobIndustry ji " + "WHERE ji.job.id IN :ids")
+  List<Object[]> findIndustryRowsByJobIds(@Param("ids") List<Long> ids);
+
+  @Query(ALL_JOB_IDS_QUERY)
   Page<Long> findIdsAllJobs(
       @Param("provinceId") Long provinceId,
       @Param("industryId") Long industryId,
       @Param("keyword") String keyword,
       Pageable pageable);
 
+  @Query(ALL_JOB_IDS_QUERY)
+  Slice<Long> sliceIdsAllJobs(
+      @Param("provinceId") Long provinceId,
+      @Param("industryId") Long industryId,
+      @Param("keyword") String keyword,
+      Pageable pageable);
+
+  @Query(MY_JOB_IDS_QUERY + " " + AFTER_CURSOR_FILTER + CURSOR_ORDER)
+  List<Long> findIdsMyJobsAfterCursor(
+      @Param("provinceId") Long provinceId,
+      @Param("industryId") Long industryId,
+      @Param("keyword") String keyword,
+      @Param("authorEmail") String authorEmail,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable);
+
+  @Query(ALL_JOB_IDS_QUERY + AFTER_CURSOR_FILTER + CURSOR_ORDER)
+  List<Long> findIdsAllJobsAfterCursor(
+      @Param("provinceId") Long provinceId,
+      @Param("industryId") Long industryId,
+      @Param("keyword") String keyword,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable);
+
+  @Modifying
+  @Query("UPDATE Job j SET j.applicationCount = j.applicationCount + 1 WHERE j.id = :jobId")
+  int incrementApplicationCount(@Param("jobId") Long jobId);
+
+  @Modifying
+  @Query(
+      "UPDATE Job j "
+          + "SET j.applicationCount = CASE WHEN j.applicationCount > 0 "
+          + "                              THEN j.applicationCount - 1 ELSE 0 END "
+          + "WHERE j.id = :jobId")
+  int decrementApplicationCount(@Param("jobId") Long jobId);
+
+  @Modifying
+  @Query("UPDATE Job j SET j.saveCount = j.saveCount + 1 WHERE j.id = :jobId")
+  int incrementSaveCount(@Param("jobId") Long jobId);
+
+  @Modifying
+  @Query(
+      "UPDATE Job j "
+          + "SET j.saveCount = CASE WHEN j.saveCount > 0 THEN j.saveCount - 1 ELSE 0 END "
+          + "WHERE j.id = :jobId")
+  int decrementSaveCount(@Param("jobId") Long jobId);
+
+  @Modifying
+  @Query("UPDATE Job j SET j.viewCount = j.viewCount + :delta WHERE j.id = :jobId")
+  int addViewCount(@Param("jobId") Long jobId, @Param("delta") long delta);
+
+  @Query(
+      value = "SELECT id FROM jobs WHERE id BETWEEN :fromId AND :toId ORDER BY id FOR UPDATE",
+      nativeQuery = true)
+  List<Long> lockIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+  @Modifying
+  @Query(
+      value =
+          "UPDATE jobs j "
+              + "SET application_count = "
+              + "      (SELECT COUNT(*) FROM applications a WHERE a.job_id = j.id) "
+              + "WHERE j.id BETWEEN :fromId AND :toId "
+              + "  AND j.application_count IS DISTINCT FROM "
+              + "      (SELECT COUNT(*) FROM applications a WHERE a.job_id = j.id)",
+      nativeQuery = true)
+  int reconcileApplicationCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+  @Modifying
+  @Query(
+      value =
+          "UPDATE jobs j "
+              + "SET save_count = (SELECT COUNT(*) FROM saved_jobs s WHERE s.job_id = j.id) "
+              + "WHERE j.id BETWEEN :fromId AND :toId "
+              + "  AND j.save_count IS DISTINCT FROM "
+              + "      (SELECT COUNT(*) FROM saved_jobs s WHERE s.job_id = j.id)",
+      nativeQuery = true)
+  int reconcileSaveCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+  @Query("SELECT MAX(j.id) FROM Job j")
+  Long findMaxId();
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("SELECT j.id FROM Job j ORDER BY j.id")
+  Stream<Long> streamAllIds();
+
   @Query(
       "SELECT DISTINCT jl.province "
           + "FROM Job j "
@@ -94,13 +237,22 @@ public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCu
           + "WHERE j.author.id = :employerId")
   List<Industry> findEmployerIndustries(@Param("employerId") Long employerId);
 
-  @Query(
-      "SELECT j.id "
-          + "FROM Job j "
-          + "WHERE j.status = beworkify.enumeration.JobStatus.APPROVED "
-          + "  AND j.author.id = :employerId")
+  @Query(HIRING_JOB_IDS_QUERY)
   Page<Long> findIdsHiringJobs(@Param("employerId") Long employerId, Pageable pageable);
 
+  @Query(HIRING_JOB_IDS_QUERY)
+  Slice<Long> sliceIdsHiringJobs(@Param("employerId") Long employerId, Pageable pageable);
+
+  @Query("SELECT j.createdAt FROM Job j WHERE j.id = :id")
+  LocalDateTime findCreatedAtById(@Param("id") Long id);
+
+  @Query(HIRING_JOB_IDS_QUERY + " " + AFTER_CURSOR_FILTER + CURSOR_ORDER)
+  List<Long> findIdsHiringJobsAfterCursor(
+      @Param("employerId") Long employerId,
+      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable);
+
   @Query(
       "SELECT COUNT(j) "
           + "FROM Job j "
@@ -125,31 +277,35 @@ public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCu
   List<Object[]> findTopEmployerIdsByHiringJobs(Pageable pageable);
 
   @Query(
-      "SELECT j.id AS jobId, COUNT(a) AS cnt "
+      "SELECT j.id "
           + "FROM Job j "
-          + "LEFT JOIN j.applications a "
-          + "LEFT JOIN j.jobIndustries ji "
           + "WHERE j.status = beworkify.enumeration.JobStatus.APPROVED "
-          + "  AND j.expirationDate >= CURRENT_DATE "
-          + "  AND (:industryId IS NULL OR ji.industry.id = :industryId) "
-          + "GROUP BY j.id "
-          + "ORDER BY COUNT(a) DESC, "
+          + "  AND (:industryId IS NULL "
+          + "       OR EXISTS (SELECT 1 "
+          + "                  FROM j.jobIndustries ji "
+          + "                  WHERE ji.industry.id = :industryId)) "
+          + "ORDER BY j.applicationCount DESC, "
           + "         j.createdAt DESC, "
           + "         CASE WHEN j.maxSalary IS NULL AND j.minSalary IS NULL THEN 1 ELSE 0 END ASC, "
           + "         COALESCE(j.maxSalary, j.minSalary) DESC")
-  List<Object[]> findTopAttractiveJobIds(Long industryId, Pageable pageable);
+  List<Long> findTopAttractiveJobIds(@Param("industryId") Long industryId, Pageable pageable);
 
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
   @Query(
-      "SELECT j.id AS jobId, COUNT(a) AS cnt "
+      "SELECT j.id, j.applicationCount, j.createdAt, ji.industry.id "
+          + "FROM Job j "
+          + "LEFT JOIN j.jobIndustries ji "
+          + "WHERE j.status = beworkify.enumeration.JobStatus.APPROVED")
+  Stream<Object[]> streamRankableJobs();
+
+  @Query(
+      "SELECT j.id "
           + "FROM Job j "
-          + "LEFT JOIN j.applications a "
           + "WHERE j.status = beworkify.enumeration.JobStatus.APPROVED "
-          + "  AND j.expirationDate >= CURRENT_DATE "
           + "  AND EXISTS (SELECT 1 "
           + "              FROM j.jobIndustries ji "
           + "              WHERE ji.industry.id = :industryId) "
-          + "GROUP BY j.id "
-          + "ORDER BY j.createdAt DESC")
-  List<Object[]> findPersonalizedJobIdsByIndustry(
+          + "ORDER BY j.createdAt DESC, j.applicationCount DESC")
+  List<Long> findPersonalizedJobIdsByIndustry(
       @Param("industryId") Long industryId, Pageable pageable);
 }
@@ -0,0 +1,56 @@
+package beworkify.repository;
+
+import beworkify.entity.JobSearchOutbox;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing JobSearchOutbox entities. Provides the claim query used by the
+ * outbox dispatcher.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Repository
+public interface JobSearchOutboxRepository extends JpaRepository<JobSearchOutbox, Long> {
+
+  /**
+   * Locks the oldest due entries for the current transaction, skipping entries another dispatcher
+   * is already working on.
+   */
+  @Query(
+      value =
+          "SELECT * FROM job_search_outbox "
+              + "WHERE available_at <= :now "
+              + "ORDER BY id "
+              + "LIMIT :limit "
+              + "FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<JobSearchOutbox> claimDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO job_search_outbox (job_id, attempts, available_at, created_at, updated_at) "
+              + "SELECT id, 0, LOCALTIMESTAMP, LOCALTIMESTAMP, LOCALTIMESTAMP "
+              + "FROM jobs "
+              + "WHERE updated_at >= :since",
+      nativeQuery = true)
+  int enqueueJobsUpdatedSince(@Param("since") LocalDateTime since);
+
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO job_search_outbox (job_id, attempts, available_at, created_at, updated_at) "
+              + "SELECT id, 0, LOCALTIMESTAMP, LOCALTIMESTAMP, LOCALTIMESTAMP "
+              + "FROM jobs "
+              + "WHERE id IN (:jobIds)",
+      nativeQuery = true)
+  int enqueueJobs(@Param("jobIds") Collection<Long> jobIds);
+}
@@ -5,6 +5,7 @@ import beworkify.entity.Notification;
 import beworkify.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -22,6 +23,11 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
   Page<Notification> findByRecipientEmployerOrderByCreatedAtDesc(
       Employer employer, Pageable pageable);
 
+  Slice<Notification> findSliceByRecipientUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
+  Slice<Notification> findSliceByRecipientEmployerOrderByCreatedAtDesc(
+      Employer employer, Pageable pageable);
+
   long countByRecipientUserAndReadFlagIsFalse(User user);
 
   long countByRecipientEmployerAndReadFlagIsFalse(Employer employer);
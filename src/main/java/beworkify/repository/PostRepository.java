@@ -5,6 +5,7 @@ import beworkify.enumeration.StatusPost;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,30 +20,38 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
-  @Query(
+  String SEARCH_POSTS_QUERY =
       "SELECT p "
           + "FROM Post p "
           + "JOIN p.category c "
           + "WHERE (:categoryId IS NULL OR c.id = :categoryId) "
           + "  AND (lower(p.title) LIKE concat('%', :keyword, '%') "
-          + "       OR lower(p.content) LIKE concat('%', :keyword, '%'))")
+          + "       OR lower(p.content) LIKE concat('%', :keyword, '%'))";
+
+  String SEARCH_PUBLIC_POSTS_QUERY = SEARCH_POSTS_QUERY + "  AND p.status = :publicStatus";
+
+  @Query(SEARCH_POSTS_QUERY)
   Page<Post> searchPosts(
       @Param("keyword") String keyword, @Param("categoryId") Long categoryId, Pageable pageable);
 
-  @Query(
-      "SELECT p "
-          + "FROM Post p "
-          + "JOIN p.category c "
-          + "WHERE (:categoryId IS NULL OR c.id = :categoryId) "
-          + "  AND (lower(p.title) LIKE concat('%', :keyword, '%') "
-          + "       OR lower(p.content) LIKE concat('%', :keyword, '%')) "
-          + "  AND p.status = :publicStatus")
+  @Query(SEARCH_POSTS_QUERY)
+  Slice<Post> sliceSearchPosts(
+      @Param("keyword") String keyword, @Param("categoryId") Long categoryId, Pageable pageable);
+
+  @Query(SEARCH_PUBLIC_POSTS_QUERY)
   Page<Post> searchPublicPosts(
       @Param("keyword") String keyword,
       @Param("categoryId") Long categoryId,
       @Param("publicStatus") StatusPost publicStatus,
       Pageable pageable);
 
+  @Query(SEARCH_PUBLIC_POSTS_QUERY)
+  Slice<Post> sliceSearchPublicPosts(
+      @Param("keyword") String keyword,
+      @Param("categoryId") Long categoryId,
+      @Param("publicStatus") StatusPost publicStatus,
+      Pageable pageable);
+
   @Query(
       "SELECT p "
           + "FROM Post p "
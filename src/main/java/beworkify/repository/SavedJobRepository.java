@@ -1,6 +1,7 @@
 package beworkify.repository;
 
 import beworkify.entity.SavedJob;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -29,4 +30,13 @@ public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
           + "WHERE sj.user.id = :userId "
           + "ORDER BY sj.createdAt DESC")
   Page<Long> findJobIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+  @Query(
+      "SELECT ji.industry.id, COUNT(sj) "
+          + "FROM SavedJob sj "
+          + "JOIN sj.job j "
+          + "JOIN j.jobIndustries ji "
+          + "WHERE sj.user.id = :userId "
+          + "GROUP BY ji.industry.id")
+  List<Object[]> countIndustriesByUserId(@Param("userId") Long userId);
 }
@@ -23,6 +23,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
   Optional<User> findByEmail(String email);
 
+  @Query("SELECT u.industry.id FROM User u WHERE u.id = :userId")
+  Optional<Long> findIndustryIdByUserId(@Param("userId") Long userId);
+
   boolean existsByEmail(String email);
 
   boolean existsByEmailAndIdNot(String email, Long id);
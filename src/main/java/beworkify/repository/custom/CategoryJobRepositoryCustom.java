@@ -3,5 +3,5 @@ package beworkify.repository.custom;
 import java.util.List;
 
 public interface CategoryJobRepositoryCustom {
-  List<Object[]> findCategoryJobWithIndustryCount();
+  List<Object[]> findCategoryJobWithIndustries();
 }
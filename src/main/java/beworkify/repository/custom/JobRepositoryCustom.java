@@ -1,9 +1,17 @@
 package beworkify.repository.custom;
 
+import beworkify.entity.Job;
 import java.util.List;
 
 public interface JobRepositoryCustom {
-  List<Object[]> getPopularProvinces(int limit);
+  List<Object[]> countApprovedJobsByProvince();
 
-  List<Object[]> getPopularIndustries(int limit);
+  List<Object[]> countApprovedJobsByIndustry();
+
+  /**
+   * Inserts new jobs together with their contact location, job locations and industries using JDBC
+   * batches, and sets the generated ids on the jobs and their contact locations. The jobs are not
+   * attached to the persistence context.
+   */
+  void insertAll(List<Job> jobs);
 }
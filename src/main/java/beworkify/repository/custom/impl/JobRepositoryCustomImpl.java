@@ -1,45 +1,197 @@
 package beworkify.repository.custom.impl;
 
+import beworkify.entity.Job;
+import beworkify.entity.JobIndustry;
+import beworkify.entity.Location;
 import beworkify.enumeration.JobStatus;
 import beworkify.repository.custom.JobRepositoryCustom;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@RequiredArgsConstructor
 public class JobRepositoryCustomImpl implements JobRepositoryCustom {
+  private static final String INSERT_LOCATION_SQL =
+      "INSERT INTO locations (province_id, district_id, detail_address, job_id, created_at,"
+          + " updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+  static final String INSERT_JOB_SQL =
+      "INSERT INTO jobs (company_name, company_size, company_website, about_company, job_title,"
+          + " salary_type, min_salary, max_salary, salary_unit, job_description, requirement,"
+          + " job_benefits, education_level, experience_level, job_level, job_type, gender,"
+          + " job_code, age_type, min_age, max_age, contact_person, phone_number,"
+          + " contact_location_id, description, expiration_date, status, employer_id,"
+          + " application_count, save_count, view_count, created_at, updated_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb), ?, ?, ?, ?, ?, ?, ?, ?, ?,"
+          + " ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String INSERT_JOB_INDUSTRY_SQL =
+      "INSERT INTO job_industries (job_id, industry_id, created_at, updated_at)"
+          + " VALUES (?, ?, ?, ?)";
+
   @PersistenceContext private EntityManager entityManager;
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
 
   @Override
-  public List<Object[]> getPopularProvinces(int limit) {
+  public List<Object[]> countApprovedJobsByProvince() {
     String jpql =
-        "SELECT p, COUNT(j.id) "
-            + "FROM Province p "
-            + "LEFT JOIN p.locations jl "
-            + "LEFT JOIN jl.job j ON j.status = :status "
-            + "GROUP BY p "
-            + "ORDER BY COUNT(DISTINCT j.id) DESC";
+        "SELECT jl.province.id, COUNT(DISTINCT j.id) "
+            + "FROM Job j "
+            + "JOIN j.jobLocations jl "
+            + "WHERE j.status = :status "
+            + "GROUP BY jl.province.id";
     return entityManager
         .createQuery(jpql, Object[].class)
-        .setMaxResults(limit)
         .setParameter("status", JobStatus.APPROVED)
         .getResultList();
   }
 
   @Override
-  public List<Object[]> getPopularIndustries(int limit) {
+  public List<Object[]> countApprovedJobsByIndustry() {
     String jpql =
-        "SELECT i, COUNT(j.id) "
-            + "FROM Industry i "
-            + "LEFT JOIN i.jobIndustries ji "
-            + "LEFT JOIN ji.job j ON j.status = :status "
-            + "GROUP BY i "
-            + "ORDER BY COUNT(DISTINCT j.id) DESC";
+        "SELECT ji.industry.id, COUNT(DISTINCT j.id) "
+            + "FROM Job j "
+            + "JOIN j.jobIndustries ji "
+            + "WHERE j.status = :status "
+            + "GROUP BY ji.industry.id";
     return entityManager
         .createQuery(jpql, Object[].class)
-        .setMaxResults(limit)
         .setParameter("status", JobStatus.APPROVED)
         .getResultList();
   }
+
+  @Override
+  public void insertAll(List<Job> jobs) {
+    if (jobs.isEmpty()) return;
+    // Truncated to the column precision so the entities match the stored rows
+    LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    List<Location> contactLocations = jobs.stream().map(Job::getContactLocation).toList();
+    List<Long> contactLocationIds =
+        insertReturningIds(
+            INSERT_LOCATION_SQL, contactLocations.stream().map(l -> locationRow(l, now)).toList());
+    for (int i = 0; i < contactLocations.size(); i++) {
+      contactLocations.get(i).setId(contactLocationIds.get(i));
+    }
+
+    List<Long> jobIds =
+        insertReturningIds(INSERT_JOB_SQL, jobs.stream().map(job -> jobRow(job, now)).toList());
+    List<Object[]> locationRows = new ArrayList<>();
+    List<Object[]> industryRows = new ArrayList<>();
+    for (int i = 0; i < jobs.size(); i++) {
+      Job job = jobs.get(i);
+      job.setId(jobIds.get(i));
+      job.setCreatedAt(now);
+      job.setUpdatedAt(now);
+      job.getJobLocations().forEach(location -> locationRows.add(locationRow(location, now)));
+      for (JobIndustry jobIndustry : job.getJobIndustries()) {
+        industryRows.add(new Object[] {job.getId(), jobIndustry.getIndustry().getId(), now, now});
+      }
+    }
+    jdbcTemplate.batchUpdate(INSERT_LOCATION_SQL, locationRows);
+    jdbcTemplate.batchUpdate(INSERT_JOB_INDUSTRY_SQL, industryRows);
+  }
+
+  private List<Long> insertReturningIds(String sql, List<Object[]> rows) {
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(
+        connection -> connection.prepareStatement(sql, new String[] {"id"}),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            new ArgumentPreparedStatementSetter(rows.get(i)).setValues(ps);
+          }
+
+          @Override
+          public int getBatchSize() {
+            return rows.size();
+          }
+        },
+        keyHolder);
+    return keyHolder.getKeyList().stream()
+        .map(keys -> ((Number) keys.get("id")).longValue())
+        .toList();
+  }
+
+  private Object[] locationRow(Location location, LocalDateTime now) {
+    Job job = location.getJob();
+    return new Object[] {
+      location.getProvince().getId(),
+      location.getDistrict().getId(),
+      location.getDetailAddress(),
+      job != null ? job.getId() : null,
+      now,
+      now
+    };
+  }
+
+  Object[] jobRow(Job job, LocalDateTime now) {
+    return new Object[] {
+      job.getCompanyName(),
+      ordinal(job.getCompanySize()),
+      job.getCompanyWebsite(),
+      job.getAboutCompany(),
+      job.getJobTitle(),
+      name(job.getSalaryType()),
+      job.getMinSalary(),
+      job.getMaxSalary(),
+      name(job.getSalaryUnit()),
+      job.getJobDescription(),
+      job.getRequirement(),
+      toJson(job.getJobBenefits()),
+      ordinal(job.getEducationLevel()),
+      ordinal(job.getExperienceLevel()),
+      ordinal(job.getJobLevel()),
+      ordinal(job.getJobType()),
+      ordinal(job.getGender()),
+      job.getJobCode(),
+      name(job.getAgeType()),
+      job.getMinAge(),
+      job.getMaxAge(),
+      job.getContactPerson(),
+      job.getPhoneNumber(),
+      job.getContactLocation().getId(),
+      job.getDescription(),
+      job.getExpirationDate(),
+      ordinal(job.getStatus()),
+      job.getAuthor().getId(),
+      job.getApplicationCount(),
+      job.getSaveCount(),
+      job.getViewCount(),
+      now,
+      now
+    };
+  }
+
+  private String toJson(Object value) {
+    if (value == null) return null;
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize job benefits", e);
+    }
+  }
+
+  private static Integer ordinal(Enum<?> value) {
+    return value == null ? null : value.ordinal();
+  }
+
+  private static String name(Enum<?> value) {
+    return value == null ? null : value.name();
+  }
 }
@@ -0,0 +1,89 @@
+package beworkify.scheduler;
+
+import beworkify.repository.JobRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Periodically realigns the denormalized {@code jobs.application_count} and {@code jobs.save_count}
+ * columns with the actual number of applications and saves, correcting drift from deletes that
+ * bypass the services (e.g. cascades). Jobs are processed in id ranges, each range in its own short
+ * transaction; the rows of a range are locked in id order before they are re-counted, so an
+ * increment committed meanwhile is either counted or applied on top of the corrected value. A Redis
+ * lease keeps the run to a single node.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationCountReconciler {
+
+  private static final long CHUNK_SIZE = 5_000;
+  private static final String LEASE_KEY = "jobs:counters:reconciling";
+  private static final Duration LEASE_TTL = Duration.ofMinutes(30);
+
+  private static final RedisScript<Long> RELEASE_LEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+          end
+          return 0
+          """,
+          Long.class);
+
+  private final JobRepository jobRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void reconcileOnStartup() {
+    reconcile();
+  }
+
+  @Scheduled(cron = "${scheduler.application-count-reconcile-cron}")
+  public void reconcile() {
+    String token = UUID.randomUUID().toString();
+    if (!Boolean.TRUE.equals(
+        stringRedisTemplate.opsForValue().setIfAbsent(LEASE_KEY, token, LEASE_TTL))) {
+      log.info("Application and save count reconciliation skipped, another node is running it");
+      return;
+    }
+    try {
+      Long maxId = jobRepository.findMaxId();
+      if (maxId == null) return;
+      int corrected = 0;
+      for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+        long from = fromId;
+        long to = fromId + CHUNK_SIZE - 1;
+        Integer updated =
+            transactionTemplate.execute(
+                status -> {
+                  jobRepository.lockIdRange(from, to);
+                  return jobRepository.reconcileApplicationCounts(from, to)
+                      + jobRepository.reconcileSaveCounts(from, to);
+                });
+        corrected += updated != null ? updated : 0;
+      }
+      log.info(
+          "Application and save count reconciliation finished, {} counters corrected", corrected);
+    } finally {
+      stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(LEASE_KEY), token);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package beworkify.scheduler;
+
+import beworkify.entity.JobAlert;
+import beworkify.entity.JobAlertOutbox;
+import beworkify.repository.JobAlertOutboxRepository;
+import beworkify.repository.JobAlertRepository;
+import beworkify.search.service.JobSearchService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Ships pending job alert changes from the alert outbox to the percolator index. Entries of one
+ * batch are coalesced per alert: an alert that still exists is indexed from its current state, one
+ * that no longer exists is removed. A failed batch stays in the outbox and is retried with an
+ * exponential backoff.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobAlertOutboxDispatcher {
+
+  private static final int BATCH_SIZE = 200;
+  private static final long MAX_BACKOFF_SECONDS = 300;
+
+  private final JobAlertOutboxRepository outboxRepository;
+  private final JobAlertRepository alertRepository;
+  private final JobSearchService jobSearchService;
+  private final TransactionTemplate transactionTemplate;
+
+  @Scheduled(fixedDelayString = "${scheduler.job-alert-outbox-dispatch-delay-ms}")
+  public void dispatch() {
+    try {
+      Integer shipped;
+      do {
+        shipped = transactionTemplate.execute(status -> dispatchBatch());
+      } while (shipped != null && shipped == BATCH_SIZE);
+    } catch (Exception e) {
+      log.error("Job alert outbox dispatch failed: {}", e.getMessage());
+    }
+  }
+
+  private int dispatchBatch() {
+    List<JobAlertOutbox> entries = outboxRepository.claimDue(LocalDateTime.now(), BATCH_SIZE);
+    if (entries.isEmpty()) return 0;
+    List<Long> alertIds = entries.stream().map(JobAlertOutbox::getAlertId).distinct().toList();
+    try {
+      List<JobAlert> alerts = alertRepository.findAllById(alertIds);
+      Set<Long> existingIds = alerts.stream().map(JobAlert::getId).collect(Collectors.toSet());
+      alerts.forEach(jobSearchService::indexAlert);
+      alertIds.stream()
+          .filter(id -> !existingIds.contains(id))
+          .forEach(jobSearchService::deleteAlert);
+      outboxRepository.deleteAllInBatch(entries);
+      return entries.size();
+    } catch (Exception e) {
+      LocalDateTime now = LocalDateTime.now();
+      for (JobAlertOutbox entry : entries) {
+        int attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        entry.setAvailableAt(now.plusSeconds(backoffSeconds(attempts)));
+      }
+      log.warn(
+          "Failed to ship {} job alerts to the percolator index, retrying later: {}",
+          alertIds.size(),
+          e.getMessage());
+      return 0;
+    }
+  }
+
+  private static long backoffSeconds(int attempts) {
+    return Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 16));
+  }
+}
@@ -0,0 +1,121 @@
+package beworkify.scheduler;
+
+import beworkify.entity.Industry;
+import beworkify.entity.Job;
+import beworkify.entity.JobIndustry;
+import beworkify.entity.Location;
+import beworkify.entity.Province;
+import beworkify.enumeration.JobStatus;
+import beworkify.repository.JobRepository;
+import beworkify.service.redis.RedisJobRankingService;
+import beworkify.service.redis.RedisJobStatsService;
+import beworkify.util.RedisUtils;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves approved jobs past their expiration date to {@code EXPIRED}, so listing queries can rely on
+ * the status alone. Each chunk is claimed with a single {@code UPDATE ... RETURNING} (skipping rows
+ * locked by concurrent edits) in its own transaction, which also queues the jobs in the search
+ * outbox. The chunk is then removed from the counters and rankings, and the listing caches are
+ * invalidated once.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobExpirationSweeper {
+
+  private static final int CHUNK_SIZE = 500;
+
+  private static final String EXPIRE_CHUNK_SQL =
+      """
+      WITH expired AS (
+        UPDATE jobs SET status = ?, updated_at = now()
+        WHERE id IN (SELECT id FROM jobs
+                     WHERE status = ? AND expiration_date < CURRENT_DATE
+                     ORDER BY id
+                     LIMIT ?
+                     FOR UPDATE SKIP LOCKED)
+        RETURNING id
+      ), queued AS (
+        INSERT INTO job_search_outbox (job_id, attempts, available_at, created_at, updated_at)
+        SELECT id, 0, LOCALTIMESTAMP, LOCALTIMESTAMP, LOCALTIMESTAMP FROM expired
+      )
+      SELECT id FROM expired
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final JobRepository jobRepository;
+  private final RedisJobStatsService jobStatsService;
+  private final RedisJobRankingService jobRankingService;
+  private final RedisUtils redisUtils;
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void sweepOnStartup() {
+    sweep();
+  }
+
+  @Scheduled(cron = "${scheduler.job-expiration-sweep-cron}")
+  public void sweep() {
+    int expired = 0;
+    try {
+      List<Job> chunk;
+      do {
+        chunk = transactionTemplate.execute(status -> expireChunk());
+        if (chunk == null || chunk.isEmpty()) break;
+        redisUtils.bumpGeneration("jobs:pn");
+        expired += chunk.size();
+      } while (chunk.size() == CHUNK_SIZE);
+    } catch (Exception e) {
+      log.error("Job expiration sweep failed: {}", e.getMessage());
+    }
+    if (expired > 0) {
+      log.info("Job expiration sweep finished, {} jobs expired", expired);
+    }
+  }
+
+  private List<Job> expireChunk() {
+    List<Long> ids =
+        jdbcTemplate.queryForList(
+            EXPIRE_CHUNK_SQL,
+            Long.class,
+            JobStatus.EXPIRED.ordinal(),
+            JobStatus.APPROVED.ordinal(),
+            CHUNK_SIZE);
+    if (ids.isEmpty()) return List.of();
+    List<Job> jobs = jobRepository.fetchJobsByIds(ids);
+    for (Job job : jobs) {
+      Set<Long> provinceIds =
+          job.getJobLocations().stream()
+              .map(Location::getProvince)
+              .filter(Objects::nonNull)
+              .map(Province::getId)
+              .collect(Collectors.toSet());
+      Set<Long> industryIds =
+          job.getJobIndustries().stream()
+              .map(JobIndustry::getIndustry)
+              .filter(Objects::nonNull)
+              .map(Industry::getId)
+              .collect(Collectors.toSet());
+      jobStatsService.adjustApprovedJobCounts(provinceIds, industryIds, -1);
+      jobRankingService.removeJob(job.getId(), industryIds);
+    }
+    return jobs;
+  }
+}
@@ -0,0 +1,31 @@
+package beworkify.scheduler;
+
+import beworkify.service.JobFeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically recomputes the personalized job feeds of recently active job seekers so their
+ * homepage keeps up with newly approved jobs.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobFeedRefresher {
+
+  private final JobFeedService jobFeedService;
+
+  @Scheduled(cron = "${scheduler.job-feed-refresh-cron}")
+  public void refresh() {
+    try {
+      jobFeedService.refreshActiveFeeds();
+    } catch (Exception e) {
+      log.error("Failed to refresh job feeds: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package beworkify.scheduler;
+
+import beworkify.search.service.JobPopularityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically ships the buffered application, save and view counters of jobs to the search index,
+ * so the popularity part of the ranking follows activity within a few seconds.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobPopularityFlusher {
+
+  private final JobPopularityService jobPopularityService;
+
+  @Scheduled(fixedDelayString = "${scheduler.job-popularity-flush-delay-ms}")
+  public void flush() {
+    try {
+      jobPopularityService.flush();
+    } catch (Exception e) {
+      log.error("Job popularity flush failed: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package beworkify.scheduler;
+
+import beworkify.service.redis.RedisJobRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the attractive job ranking from the database at startup and periodically, healing any
+ * missed incremental update.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobRankingReconciler {
+
+  private final RedisJobRankingService jobRankingService;
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildOnStartup() {
+    rebuild();
+  }
+
+  @Scheduled(cron = "${scheduler.job-ranking-rebuild-cron}")
+  public void rebuild() {
+    try {
+      if (jobRankingService.rebuild()) {
+        log.info("Attractive job ranking rebuilt");
+      } else {
+        log.info("Attractive job ranking is being rebuilt by another node, skipping");
+      }
+    } catch (Exception e) {
+      log.error("Failed to rebuild attractive job ranking: {}", e.getMessage());
+    }
+  }
+}
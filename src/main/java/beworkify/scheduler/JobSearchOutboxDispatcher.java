@@ -0,0 +1,83 @@
+package beworkify.scheduler;
+
+import beworkify.entity.Job;
+import beworkify.entity.JobSearchOutbox;
+import beworkify.repository.JobRepository;
+import beworkify.repository.JobSearchOutboxRepository;
+import beworkify.search.service.JobSearchService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Ships pending job changes from the search outbox to Elasticsearch. Entries of one batch are
+ * coalesced per job, so a job changed several times is indexed once from its current state, and a
+ * job that no longer exists is deleted from the index. Indexing goes through a single bulk request.
+ * A failed batch stays in the outbox and is retried with an exponential backoff.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobSearchOutboxDispatcher {
+
+  private static final int BATCH_SIZE = 200;
+  private static final long MAX_BACKOFF_SECONDS = 300;
+
+  private final JobSearchOutboxRepository outboxRepository;
+  private final JobRepository jobRepository;
+  private final JobSearchService jobSearchService;
+  private final TransactionTemplate transactionTemplate;
+
+  @Scheduled(fixedDelayString = "${scheduler.job-search-outbox-dispatch-delay-ms}")
+  public void dispatch() {
+    try {
+      Integer shipped;
+      do {
+        shipped = transactionTemplate.execute(status -> dispatchBatch());
+      } while (shipped != null && shipped == BATCH_SIZE);
+    } catch (Exception e) {
+      log.error("Job search outbox dispatch failed: {}", e.getMessage());
+    }
+  }
+
+  private int dispatchBatch() {
+    List<JobSearchOutbox> entries = outboxRepository.claimDue(LocalDateTime.now(), BATCH_SIZE);
+    if (entries.isEmpty()) return 0;
+    List<Long> jobIds = entries.stream().map(JobSearchOutbox::getJobId).distinct().toList();
+    try {
+      List<Job> jobs = jobRepository.fetchJobsByIds(jobIds);
+      Set<Long> existingIds = jobs.stream().map(Job::getId).collect(Collectors.toSet());
+      List<Long> deletedIds = jobIds.stream().filter(id -> !existingIds.contains(id)).toList();
+      if (!jobs.isEmpty()) jobSearchService.indexAll(jobs);
+      if (!deletedIds.isEmpty()) jobSearchService.deleteAllById(deletedIds);
+      outboxRepository.deleteAllInBatch(entries);
+      return entries.size();
+    } catch (Exception e) {
+      LocalDateTime now = LocalDateTime.now();
+      for (JobSearchOutbox entry : entries) {
+        int attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        entry.setAvailableAt(now.plusSeconds(backoffSeconds(attempts)));
+      }
+      log.warn(
+          "Failed to ship {} jobs to the search index, retrying later: {}",
+          jobIds.size(),
+          e.getMessage());
+      return 0;
+    }
+  }
+
+  /** Seconds to wait before the next attempt: doubling from 2s and capped at 5 minutes. */
+  static long backoffSeconds(int attempts) {
+    return Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 16));
+  }
+}
@@ -0,0 +1,44 @@
+package beworkify.scheduler;
+
+import beworkify.service.redis.RedisJobStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the approved job counters per province and industry from the database at startup and
+ * periodically, so the incremental updates never drift for long.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobStatsReconciler {
+
+  private final RedisJobStatsService jobStatsService;
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildOnStartup() {
+    rebuild();
+  }
+
+  @Scheduled(cron = "${scheduler.job-stats-rebuild-cron}")
+  public void rebuild() {
+    try {
+      if (jobStatsService.rebuild()) {
+        log.info("Approved job counters rebuilt");
+      } else {
+        log.info("Approved job counters are being rebuilt by another node, skipping");
+      }
+    } catch (Exception e) {
+      log.error("Failed to rebuild approved job counters: {}", e.getMessage());
+    }
+  }
+}
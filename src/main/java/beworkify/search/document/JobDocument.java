@@ -20,7 +20,7 @@ import org.springframework.data.elasticsearch.core.suggest.Completion;
 @AllArgsConstructor
 @NoArgsConstructor
 @Setting(settingPath = "elasticsearch/jobs-settings.json")
-@Document(indexName = "jobs")
+@Document(indexName = "jobs", createIndex = false)
 public class JobDocument {
   @Id private String id;
 
@@ -88,5 +88,23 @@ public class JobDocument {
   @Field(type = FieldType.Keyword)
   private String educationLevel;
 
-  @CompletionField private Completion suggest;
+  @Field(type = FieldType.Integer)
+  private Integer applicationCount;
+
+  @Field(type = FieldType.Integer)
+  private Integer saveCount;
+
+  @Field(type = FieldType.Long)
+  private Long viewCount;
+
+  @CompletionField(
+      analyzer = "vn_suggest",
+      searchAnalyzer = "vn_suggest",
+      contexts = {
+        @CompletionContext(
+            name = "status",
+            type = CompletionContext.ContextMappingType.CATEGORY,
+            path = "status")
+      })
+  private Completion suggest;
 }
@@ -0,0 +1,19 @@
+package beworkify.search.service;
+
+/**
+ * Service interface for the popularity signals of a job (applications, saves and views) that feed
+ * the search ranking. Signals are buffered in memory and shipped to Elasticsearch as scripted
+ * partial updates on {@link #flush()}.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+public interface JobPopularityService {
+  void recordApplication(Long jobId, int delta);
+
+  void recordSave(Long jobId, int delta);
+
+  void recordView(Long jobId);
+
+  void flush();
+}
@@ -1,9 +1,13 @@
 package beworkify.search.service;
 
-import beworkify.dto.response.JobResponse;
+import beworkify.dto.response.JobCardResponse;
 import beworkify.dto.response.PageResponse;
+import beworkify.dto.response.ReindexStatusResponse;
 import beworkify.entity.Job;
+import beworkify.entity.JobAlert;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 /**
@@ -17,7 +21,9 @@ public interface JobSearchService {
 
   void deleteById(Long id);
 
-  PageResponse<List<JobResponse>> searchAdvanced(
+  void deleteAllById(Collection<Long> ids);
+
+  PageResponse<List<JobCardResponse>> searchAdvanced(
       String keyword,
       List<String> industryIds,
       List<String> provinceIds,
@@ -32,5 +38,39 @@ public interface JobSearchService {
       String sort,
       Pageable pageable);
 
+  PageResponse<List<JobCardResponse>> searchAdvancedByCursor(
+      String keyword,
+      List<String> industryIds,
+      List<String> provinceIds,
+      List<String> jobLevels,
+      List<String> jobTypes,
+      List<String> experienceLevels,
+      List<String> educationLevels,
+      Integer postedWithinDays,
+      Double minSalary,
+      Double maxSalary,
+      String salaryUnit,
+      String sort,
+      String cursor,
+      int pageSize);
+
+  List<String> suggest(String prefix, int limit);
+
+  Page<Long> searchIds(String keyword, Long industryId, Long provinceId, Pageable pageable);
+
   void indexAll(Iterable<Job> jobs);
+
+  void ensureIndex();
+
+  void ensureAlertIndex();
+
+  void indexAlert(JobAlert alert);
+
+  void deleteAlert(Long alertId);
+
+  List<Long> percolateAlerts(Job job, Long afterAlertId, int size);
+
+  void reindex();
+
+  ReindexStatusResponse getReindexStatus();
 }
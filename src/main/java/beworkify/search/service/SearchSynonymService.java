@@ -0,0 +1,19 @@
+package beworkify.search.service;
+
+import beworkify.dto.response.SearchSynonymsResponse;
+import java.util.List;
+
+/**
+ * Service interface for the synonym set applied to job searches. Synonyms are expanded at search
+ * time only, so changing them never requires a reindex.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+public interface SearchSynonymService {
+  void ensureSynonymSet();
+
+  SearchSynonymsResponse getSynonyms();
+
+  SearchSynonymsResponse replaceSynonyms(List<String> rules);
+}
@@ -0,0 +1,206 @@
+package beworkify.search.service.impl;
+
+import beworkify.repository.JobRepository;
+import beworkify.search.service.JobPopularityService;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.Script;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.json.JsonData;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Implementation of the JobPopularityService interface. Signals are coalesced per job between two
+ * flushes, so a burst of applications, saves or views on one job costs a single scripted {@code
+ * _update} in one bulk request instead of a full document reindex. Views have no other store, so
+ * their deltas are also added to {@code jobs.view_count} and survive a rebuild of the index.
+ *
+ * <p>The counters in the index are a ranking signal, not the source of truth: indexing the whole
+ * document again resets them from Postgres. A batch that fails is put back and retried on the next
+ * flush; updates of jobs that are not in the index (e.g. not approved yet) are dropped. While a
+ * rebuild is running the same updates also go to the shadow index, where a job not copied yet is
+ * skipped since it will be copied with its counters from Postgres.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobPopularityServiceImpl implements JobPopularityService {
+
+  private static final String JOBS_ALIAS = "jobs";
+  private static final int BATCH_SIZE = 500;
+  private static final int RETRY_ON_CONFLICT = 3;
+  private static final String INCREMENT_SCRIPT =
+      """
+      for (def e : params.deltas.entrySet()) {
+        def current = ctx._source[e.getKey()];
+        long value = current == null ? 0L : ((Number) current).longValue();
+        ctx._source[e.getKey()] = Math.max(0L, value + ((Number) e.getValue()).longValue());
+      }
+      """;
+
+  private final ElasticsearchClient elasticsearchClient;
+  private final JobRepository jobRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  private final ConcurrentMap<Long, Delta> pending = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Long, Long> pendingViews = new ConcurrentHashMap<>();
+
+  @Override
+  public void recordApplication(Long jobId, int delta) {
+    pending.merge(jobId, new Delta(delta, 0, 0), Delta::plus);
+  }
+
+  @Override
+  public void recordSave(Long jobId, int delta) {
+    pending.merge(jobId, new Delta(0, delta, 0), Delta::plus);
+  }
+
+  @Override
+  public void recordView(Long jobId) {
+    pending.merge(jobId, new Delta(0, 0, 1), Delta::plus);
+    pendingViews.merge(jobId, 1L, Long::sum);
+  }
+
+  @Override
+  public void flush() {
+    flushViewCounts();
+    List<Map.Entry<Long, Delta>> entries =
+        drain(pending).entrySet().stream().filter(entry -> !entry.getValue().isEmpty()).toList();
+    for (int from = 0; from < entries.size(); from += BATCH_SIZE) {
+      ship(entries.subList(from, Math.min(from + BATCH_SIZE, entries.size())));
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  private void flushViewCounts() {
+    Map<Long, Long> views = drain(pendingViews);
+    if (views.isEmpty()) return;
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> views.forEach((jobId, delta) -> jobRepository.addViewCount(jobId, delta)));
+    } catch (Exception e) {
+      views.forEach((jobId, delta) -> pendingViews.merge(jobId, delta, Long::sum));
+      log.warn("Failed to persist view counts of {} jobs: {}", views.size(), e.getMessage());
+    }
+  }
+
+  private void ship(List<Map.Entry<Long, Delta>> batch) {
+    String shadow = shadowIndex();
+    List<BulkOperation> operations = new ArrayList<>();
+    batch.forEach(
+        entry -> operations.add(incrementOperation(JOBS_ALIAS, entry.getKey(), entry.getValue())));
+    if (shadow != null) {
+      batch.forEach(
+          entry -> operations.add(incrementOperation(shadow, entry.getKey(), entry.getValue())));
+    }
+    try {
+      BulkResponse response = elasticsearchClient.bulk(b -> b.operations(operations));
+      if (!response.errors()) return;
+      Map<Long, Delta> byJob = new HashMap<>();
+      batch.forEach(entry -> byJob.put(entry.getKey(), entry.getValue()));
+      Set<Long> retried = new HashSet<>();
+      int shadowFailed = 0;
+      for (BulkResponseItem item : response.items()) {
+        if (item.error() == null || item.status() == 404) continue;
+        if (item.index().equals(shadow)) {
+          shadowFailed++;
+          continue;
+        }
+        Long jobId = Long.valueOf(item.id());
+        if (retried.add(jobId)) pending.merge(jobId, byJob.get(jobId), Delta::plus);
+      }
+      if (!retried.isEmpty()) {
+        log.warn("Failed to update popularity of {} jobs, retrying later", retried.size());
+      }
+      if (shadowFailed > 0) {
+        log.warn("Failed to update popularity of {} jobs in shadow index {}", shadowFailed, shadow);
+      }
+    } catch (IOException | ElasticsearchException e) {
+      batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), Delta::plus));
+      log.warn(
+          "Failed to update popularity of {} jobs, retrying later: {}",
+          batch.size(),
+          e.getMessage());
+    }
+  }
+
+  private BulkOperation incrementOperation(String index, Long jobId, Delta delta) {
+    Script script =
+        Script.of(
+            s ->
+                s.inline(
+                    i ->
+                        i.source(INCREMENT_SCRIPT)
+                            .params("deltas", JsonData.of(delta.toParams()))));
+    return BulkOperation.of(
+        op ->
+            op.update(
+                u ->
+                    u.index(index)
+                        .id(String.valueOf(jobId))
+                        .retryOnConflict(RETRY_ON_CONFLICT)
+                        .action(a -> a.script(script))));
+  }
+
+  private String shadowIndex() {
+    try {
+      return stringRedisTemplate.opsForValue().get(JobSearchServiceImpl.SHADOW_INDEX_KEY);
+    } catch (Exception e) {
+      log.warn("Could not read the shadow index name: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  /** Removes every entry key by key, so a signal recorded concurrently is never lost. */
+  private static <V> Map<Long, V> drain(ConcurrentMap<Long, V> source) {
+    Map<Long, V> drained = new LinkedHashMap<>();
+    for (Long jobId : source.keySet()) {
+      V value = source.remove(jobId);
+      if (value != null) drained.put(jobId, value);
+    }
+    return drained;
+  }
+
+  private record Delta(long applications, long saves, long views) {
+    private Delta plus(Delta other) {
+      return new Delta(applications + other.applications, saves + other.saves, views + other.views);
+    }
+
+    private boolean isEmpty() {
+      return applications == 0 && saves == 0 && views == 0;
+    }
+
+    private Map<String, Long> toParams() {
+      Map<String, Long> params = new HashMap<>();
+      if (applications != 0) params.put("applicationCount", applications);
+      if (saves != 0) params.put("saveCount", saves);
+      if (views != 0) params.put("viewCount", views);
+      return params;
+    }
+  }
+}
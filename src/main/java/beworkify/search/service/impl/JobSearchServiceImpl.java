@@ -1,51 +1,177 @@
 package beworkify.search.service.impl;
 
-import beworkify.dto.response.JobResponse;
+import beworkify.cache.CachedSearchResult;
+import beworkify.cache.SearchResultCache;
+import beworkify.dto.response.FacetBucketResponse;
+import beworkify.dto.response.JobCardResponse;
 import beworkify.dto.response.PageResponse;
+import beworkify.dto.response.ReindexStatusResponse;
 import beworkify.entity.Job;
+import beworkify.entity.JobAlert;
 import beworkify.entity.Location;
+import beworkify.enumeration.ErrorCode;
 import beworkify.enumeration.JobStatus;
-import beworkify.mapper.JobMapper;
+import beworkify.enumeration.ReindexState;
+import beworkify.enumeration.SalaryUnit;
+import beworkify.exception.AppException;
 import beworkify.repository.JobRepository;
+import beworkify.repository.JobSearchOutboxRepository;
 import beworkify.search.document.JobDocument;
 import beworkify.search.repository.JobSearchRepository;
 import beworkify.search.service.JobSearchService;
+import beworkify.service.JobCardService;
+import beworkify.util.CursorUtils;
 import beworkify.util.HtmlImageProcessor;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.AggregationRange;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.FieldValueFactorModifier;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionBoostMode;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionScore;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionScoreMode;
 import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.CompletionContext;
+import co.elastic.clients.elasticsearch.core.search.CompletionSuggestOption;
+import co.elastic.clients.elasticsearch.core.search.Suggestion;
 import co.elastic.clients.json.JsonData;
+import co.elastic.clients.json.JsonpUtils;
+import co.elastic.clients.util.ObjectBuilder;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.Settings;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
 import org.springframework.data.elasticsearch.core.suggest.Completion;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 /**
  * Implementation of JobSearchService. Handles indexing and advanced search queries for jobs.
  *
+ * <p>Searches and writes go through the {@code jobs} alias, which points at a versioned index.
+ * {@link #reindex()} builds a fresh versioned index from the database and swaps the alias in one
+ * atomic request, so settings or analyzer changes never leave search empty. While a rebuild runs,
+ * its index name is published in Redis and every node writes incremental changes to both indices.
+ * Jobs deleted during the rebuild are recorded as well and deleted again after the swap, since a
+ * batch streamed before the deletion may still carry them into the new index.
+ *
+ * <p>Advanced search returns sidebar facet counts computed by aggregations in the same request.
+ *
+ * <p>Offset-mode results are cached briefly under a canonical fingerprint of the query, see {@link
+ * SearchResultCache}.
+ *
+ * <p>Search only reads document ids from Elasticsearch; the hits are hydrated as listing cards in a
+ * fixed number of queries, keeping the Elasticsearch ordering.
+ *
  * @author KhanhDX
  * @since 1.0.0
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class JobSearchServiceImpl implements JobSearchService {
 
+  private static final String JOBS_ALIAS = "jobs";
+  private static final String JOB_ALERTS_INDEX = "job_alerts";
+  private static final int REINDEX_BATCH_SIZE = 500;
+  private static final int REINDEX_CONCURRENCY = 4;
+  private static final Duration PIT_KEEP_ALIVE = Duration.ofMinutes(2);
+  private static final String SUGGESTER_NAME = "job-suggest";
+  private static final String LISTING_ANALYZER = "vn_folded";
+  private static final int[] POSTED_WITHIN_DAYS_BUCKETS = {1, 3, 7, 14, 30, 60, 90};
+  private static final int FACET_SIZE = 100;
+  private static final String FACET_VALUES = "values";
+  private static final String FACET_INDUSTRIES = "industries";
+  private static final String FACET_PROVINCES = "provinces";
+  private static final String FACET_JOB_LEVELS = "jobLevels";
+  private static final String FACET_JOB_TYPES = "jobTypes";
+  private static final String FACET_EXPERIENCE_LEVELS = "experienceLevels";
+  private static final String FACET_EDUCATION_LEVELS = "educationLevels";
+  private static final String FACET_SALARY_RANGES = "salaryRanges";
+  private static final Map<SalaryUnit, long[]> SALARY_FACET_BOUNDS =
+      Map.of(
+          SalaryUnit.VND, new long[] {10_000_000, 20_000_000, 30_000_000, 50_000_000},
+          SalaryUnit.USD, new long[] {500, 1_000, 2_000, 3_000});
+  private static final Set<String> ADVANCED_SORT_FIELDS =
+      Set.of("updatedAt", "createdAt", "expirationDate");
+  private static final String FRESHNESS_SCALE = "14d";
+  private static final String FRESHNESS_OFFSET = "1d";
+  private static final double FRESHNESS_WEIGHT = 2.0;
+  private static final double KEYWORD_MIN_SCORE = 3.0;
+  static final String SHADOW_INDEX_KEY = "search:jobs:shadow-index";
+  private static final String SHADOW_DELETED_KEY = "search:jobs:shadow-deleted";
+  private static final Duration SHADOW_INDEX_TTL = Duration.ofHours(2);
+  private static final DateTimeFormatter INDEX_VERSION_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
   private final JobSearchRepository repository;
   private final ElasticsearchOperations operations;
+  private final ElasticsearchClient elasticsearchClient;
   private final JobRepository jobRepository;
-  private final JobMapper jobMapper;
+  private final JobSearchOutboxRepository outboxRepository;
+  private final JobCardService jobCardService;
+  private final SearchResultCache searchResultCache;
+  private final TransactionTemplate transactionTemplate;
+  private final EntityManager entityManager;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  private final AtomicBoolean reindexRunning = new AtomicBoolean();
+  private volatile ReindexProgress reindexProgress;
+
+  private static final Map<String, String> SORT_FIELDS =
+      Map.of(
+          "jobTitle", "jobTitle.keyword",
+          "createdAt", "createdAt",
+          "updatedAt", "updatedAt",
+          "expirationDate", "expirationDate");
 
   @Override
   public void index(Job job) {
@@ -58,6 +184,20 @@ public class JobSearchServiceImpl implements JobSearchService {
     repository.deleteById(String.valueOf(id));
   }
 
+  @Override
+  public void deleteAllById(Collection<Long> ids) {
+    List<String> docIds = ids.stream().map(String::valueOf).toList();
+    String shadow = shadowIndex();
+    if (shadow != null) {
+      stringRedisTemplate.opsForSet().add(SHADOW_DELETED_KEY, docIds.toArray(String[]::new));
+      stringRedisTemplate.expire(SHADOW_DELETED_KEY, SHADOW_INDEX_TTL);
+    }
+    repository.deleteAllById(docIds);
+    if (shadow != null) {
+      docIds.forEach(id -> operations.delete(id, IndexCoordinates.of(shadow)));
+    }
+  }
+
   @Override
   public void indexAll(Iterable<Job> jobs) {
     List<JobDocument> docs = new ArrayList<>();
@@ -65,6 +205,375 @@ public class JobSearchServiceImpl implements JobSearchService {
       docs.add(toDocument(j));
     }
     repository.saveAll(docs);
+    String shadow = shadowIndex();
+    if (shadow != null) {
+      operations.bulkIndex(toIndexQueries(docs), IndexCoordinates.of(shadow));
+    }
+  }
+
+  @Override
+  public void ensureIndex() {
+    if (operations.indexOps(IndexCoordinates.of(JOBS_ALIAS)).exists()) return;
+    String index = createVersionedIndex(false);
+    operations
+        .indexOps(IndexCoordinates.of(index))
+        .alias(
+            new AliasActions(
+                new AliasAction.Add(
+                    AliasActionParameters.builder()
+                        .withIndices(index)
+                        .withAliases(JOBS_ALIAS)
+                        .build())));
+    log.info("Created search index {} behind alias {}", index, JOBS_ALIAS);
+  }
+
+  /**
+   * Creates the percolator index holding job alerts. It carries the job mapping so stored queries
+   * are parsed against the same fields and analyzers as the job search.
+   */
+  @Override
+  public void ensureAlertIndex() {
+    IndexOperations alertOps = operations.indexOps(IndexCoordinates.of(JOB_ALERTS_INDEX));
+    if (alertOps.exists()) return;
+    Document mapping = alertOps.createMapping(JobDocument.class);
+    @SuppressWarnings("unchecked")
+    Map<String, Object> properties = (Map<String, Object>) mapping.get("properties");
+    properties.put("query", Map.of("type", "percolator"));
+    properties.put("alertId", Map.of("type", "long"));
+    properties.put("userId", Map.of("type", "long"));
+    alertOps.create(alertOps.createSettings(JobDocument.class), mapping);
+    log.info("Created percolator index {}", JOB_ALERTS_INDEX);
+  }
+
+  @Override
+  public void indexAlert(JobAlert alert) {
+    Query query = alertQuery(alert);
+    String source =
+        "{\"alertId\":%d,\"userId\":%d,\"query\":%s}"
+            .formatted(
+                alert.getId(),
+                alert.getUser().getId(),
+                JsonpUtils.toJsonString(query, elasticsearchClient._jsonpMapper()));
+    try {
+      elasticsearchClient.index(
+          i ->
+              i.index(JOB_ALERTS_INDEX)
+                  .id(String.valueOf(alert.getId()))
+                  .document(JsonData.fromJson(source)));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void deleteAlert(Long alertId) {
+    operations.delete(String.valueOf(alertId), IndexCoordinates.of(JOB_ALERTS_INDEX));
+  }
+
+  /**
+   * Runs the job against every stored alert query in one percolate request and returns the ids of
+   * the matching alerts, ascending. Callers page through large fan-outs with {@code afterAlertId}.
+   */
+  @Override
+  public List<Long> percolateAlerts(Job job, Long afterAlertId, int size) {
+    JsonData document = JsonData.of(percolatorSource(toDocument(job)));
+    try {
+      SearchResponse<Void> response =
+          elasticsearchClient.search(
+              s -> {
+                s.index(JOB_ALERTS_INDEX)
+                    .size(size)
+                    .source(src -> src.fetch(false))
+                    .query(q -> q.percolate(p -> p.field("query").document(document)))
+                    .sort(so -> so.field(f -> f.field("alertId").order(SortOrder.Asc)));
+                if (afterAlertId != null) {
+                  s.searchAfter(List.of(FieldValue.of(afterAlertId)));
+                }
+                return s;
+              },
+              Void.class);
+      return response.hits().hits().stream().map(h -> Long.valueOf(h.id())).toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * The stored query of an alert: the advanced search filters and keyword clauses, without the
+   * recency filter, which has no meaning for a job that is being approved right now.
+   */
+  private Query alertQuery(JobAlert alert) {
+    Map<String, Query> filters =
+        facetFilters(
+            canonicalIds(toStrings(alert.getIndustryIds())),
+            canonicalIds(toStrings(alert.getProvinceIds())),
+            canonicalValues(alert.getJobLevels()),
+            canonicalValues(alert.getJobTypes()),
+            canonicalValues(alert.getExperienceLevels()),
+            canonicalValues(alert.getEducationLevels()),
+            alert.getMinSalary(),
+            alert.getMaxSalary(),
+            alert.getSalaryUnit());
+    return Query.of(
+        q ->
+            q.bool(
+                bool -> {
+                  bool.filter(
+                      f -> f.term(t -> t.field("status").value(JobStatus.APPROVED.getValue())));
+                  if (StringUtils.hasText(alert.getKeyword())) {
+                    applyKeyword(bool, alert.getKeyword());
+                  }
+                  bool.filter(new ArrayList<>(filters.values()));
+                  return bool;
+                }));
+  }
+
+  private List<String> toStrings(List<Long> ids) {
+    return ids == null ? null : ids.stream().map(String::valueOf).toList();
+  }
+
+  /** The searchable fields of a job document, as the percolator needs to see them. */
+  private Map<String, Object> percolatorSource(JobDocument doc) {
+    Map<String, Object> source = new HashMap<>();
+    source.put("jobTitle", doc.getJobTitle());
+    source.put("companyName", doc.getCompanyName());
+    source.put("jobDescription", doc.getJobDescription());
+    source.put("requirement", doc.getRequirement());
+    source.put("industries", doc.getIndustries());
+    source.put("provinces", doc.getProvinces());
+    source.put("status", doc.getStatus());
+    source.put("minSalary", doc.getMinSalary());
+    source.put("maxSalary", doc.getMaxSalary());
+    source.put("salaryUnit", doc.getSalaryUnit());
+    source.put("jobLevel", doc.getJobLevel());
+    source.put("jobType", doc.getJobType());
+    source.put("experienceLevel", doc.getExperienceLevel());
+    source.put("educationLevel", doc.getEducationLevel());
+    source.values().removeIf(Objects::isNull);
+    return source;
+  }
+
+  @Override
+  @Async
+  public void reindex() {
+    if (!reindexRunning.compareAndSet(false, true)) {
+      log.warn("Search reindex requested while another one is running, ignoring");
+      return;
+    }
+    ReindexProgress progress = new ReindexProgress();
+    reindexProgress = progress;
+    try {
+      progress.total = jobRepository.count();
+      String index = createVersionedIndex(true);
+      progress.targetIndex = index;
+      stringRedisTemplate.delete(SHADOW_DELETED_KEY);
+      stringRedisTemplate.opsForValue().set(SHADOW_INDEX_KEY, index, SHADOW_INDEX_TTL);
+      log.info("Reindexing {} jobs into {}", progress.total, index);
+
+      streamDocumentsInto(index, progress);
+      elasticsearchClient
+          .indices()
+          .putSettings(p -> p.index(index).settings(st -> st.refreshInterval(t -> t.time("1s"))));
+      operations.indexOps(IndexCoordinates.of(index)).refresh();
+      List<String> previousIndices = swapAlias(index);
+      stringRedisTemplate.delete(SHADOW_INDEX_KEY);
+      int redeleted = replayShadowDeletes();
+
+      Integer requeued =
+          transactionTemplate.execute(
+              st -> outboxRepository.enqueueJobsUpdatedSince(progress.startedAt));
+      previousIndices.forEach(old -> operations.indexOps(IndexCoordinates.of(old)).delete());
+
+      progress.state = ReindexState.COMPLETED;
+      progress.finishedAt = LocalDateTime.now();
+      log.info(
+          "Reindex into {} finished: {} indexed, {} failed, {} changed jobs requeued, {} deleted"
+              + " jobs removed again",
+          index,
+          progress.indexed.get(),
+          progress.failed.get(),
+          requeued,
+          redeleted);
+    } catch (Exception e) {
+      clearShadowIndex();
+      progress.state = ReindexState.FAILED;
+      progress.error = e.getMessage();
+      progress.finishedAt = LocalDateTime.now();
+      log.error("Search reindex failed, alias {} left unchanged", JOBS_ALIAS, e);
+    } finally {
+      reindexRunning.set(false);
+    }
+  }
+
+  @Override
+  public ReindexStatusResponse getReindexStatus() {
+    ReindexProgress progress = reindexProgress;
+    if (progress == null) {
+      return ReindexStatusResponse.builder().state(ReindexState.IDLE).build();
+    }
+    return progress.toResponse();
+  }
+
+  /** The index being rebuilt by any node, or {@code null} when no rebuild is running. */
+  private String shadowIndex() {
+    return stringRedisTemplate.opsForValue().get(SHADOW_INDEX_KEY);
+  }
+
+  /**
+   * Deletes the jobs deleted during the rebuild from the new index, now behind the alias. Later
+   * deletions go through the alias directly.
+   */
+  private int replayShadowDeletes() {
+    Set<String> deleted = stringRedisTemplate.opsForSet().members(SHADOW_DELETED_KEY);
+    if (deleted != null && !deleted.isEmpty()) {
+      repository.deleteAllById(deleted);
+    }
+    stringRedisTemplate.delete(SHADOW_DELETED_KEY);
+    return deleted == null ? 0 : deleted.size();
+  }
+
+  private void clearShadowIndex() {
+    try {
+      stringRedisTemplate.delete(List.of(SHADOW_INDEX_KEY, SHADOW_DELETED_KEY));
+    } catch (Exception e) {
+      log.warn("Could not clear the shadow index marker: {}", e.getMessage());
+    }
+  }
+
+  private String createVersionedIndex(boolean bulkLoading) {
+    String index = JOBS_ALIAS + "_" + LocalDateTime.now().format(INDEX_VERSION_FORMAT);
+    IndexOperations indexOps = operations.indexOps(IndexCoordinates.of(index));
+    Settings settings = indexOps.createSettings(JobDocument.class).flatten();
+    if (bulkLoading) {
+      settings.put("index.refresh_interval", "-1");
+    }
+    indexOps.create(settings, indexOps.createMapping(JobDocument.class));
+    return index;
+  }
+
+  /**
+   * Streams job ids through a server-side cursor and ships each batch as one bulk request, keeping
+   * up to {@link #REINDEX_CONCURRENCY} requests in flight. The persistence context is cleared after
+   * every batch so memory stays flat regardless of the table size.
+   */
+  private void streamDocumentsInto(String index, ReindexProgress progress)
+      throws InterruptedException {
+    IndexCoordinates coordinates = IndexCoordinates.of(index);
+    ExecutorService executor = Executors.newFixedThreadPool(REINDEX_CONCURRENCY);
+    Semaphore inFlight = new Semaphore(REINDEX_CONCURRENCY * 2);
+    try {
+      transactionTemplate.executeWithoutResult(
+          st -> {
+            try (Stream<Long> ids = jobRepository.streamAllIds()) {
+              List<Long> batch = new ArrayList<>(REINDEX_BATCH_SIZE);
+              Iterator<Long> iterator = ids.iterator();
+              while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == REINDEX_BATCH_SIZE || !iterator.hasNext()) {
+                  List<IndexQuery> queries =
+                      toIndexQueries(
+                          jobRepository.fetchJobsByIds(batch).stream()
+                              .map(this::toDocument)
+                              .toList());
+                  entityManager.clear();
+                  stringRedisTemplate.expire(SHADOW_INDEX_KEY, SHADOW_INDEX_TTL);
+                  batch = new ArrayList<>(REINDEX_BATCH_SIZE);
+                  inFlight.acquireUninterruptibly();
+                  executor.execute(
+                      () -> {
+                        try {
+                          operations.bulkIndex(queries, coordinates);
+                          progress.indexed.addAndGet(queries.size());
+                        } catch (Exception e) {
+                          progress.failed.addAndGet(queries.size());
+                          log.warn("Bulk request into {} failed: {}", index, e.getMessage());
+                        } finally {
+                          inFlight.release();
+                        }
+                      });
+                }
+              }
+            }
+          });
+    } finally {
+      executor.shutdown();
+    }
+    if (!executor.awaitTermination(1, TimeUnit.HOURS)) {
+      throw new IllegalStateException("Timed out waiting for bulk requests into " + index);
+    }
+    if (progress.failed.get() > 0) {
+      throw new IllegalStateException(
+          progress.failed.get() + " documents could not be written to " + index);
+    }
+  }
+
+  /**
+   * Points the alias at {@code index} and detaches it from every previous index in one atomic
+   * request. An index created before aliases were introduced is named like the alias itself and is
+   * removed in the same request.
+   */
+  private List<String> swapAlias(String index) {
+    IndexOperations aliasOps = operations.indexOps(IndexCoordinates.of(JOBS_ALIAS));
+    List<String> previousIndices = new ArrayList<>();
+    AliasActions actions = new AliasActions();
+    if (aliasOps.exists()) {
+      try {
+        previousIndices.addAll(aliasOps.getAliases(JOBS_ALIAS).keySet());
+      } catch (Exception e) {
+        log.info("{} is a plain index, replacing it with an alias", JOBS_ALIAS);
+      }
+      if (previousIndices.isEmpty()) {
+        actions.add(
+            new AliasAction.RemoveIndex(
+                AliasActionParameters.builder().withIndices(JOBS_ALIAS).build()));
+      } else {
+        actions.add(
+            new AliasAction.Remove(
+                AliasActionParameters.builder()
+                    .withIndices(previousIndices.toArray(String[]::new))
+                    .withAliases(JOBS_ALIAS)
+                    .build()));
+      }
+    }
+    actions.add(
+        new AliasAction.Add(
+            AliasActionParameters.builder().withIndices(index).withAliases(JOBS_ALIAS).build()));
+    operations.indexOps(IndexCoordinates.of(index)).alias(actions);
+    previousIndices.remove(index);
+    return previousIndices;
+  }
+
+  private List<IndexQuery> toIndexQueries(List<JobDocument> docs) {
+    return docs.stream()
+        .map(doc -> new IndexQueryBuilder().withId(doc.getId()).withObject(doc).build())
+        .toList();
+  }
+
+  private static class ReindexProgress {
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong indexed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile ReindexState state = ReindexState.RUNNING;
+    private volatile String targetIndex;
+    private volatile long total;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    private ReindexStatusResponse toResponse() {
+      LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+      double seconds = Math.max(1, Duration.between(startedAt, end).toMillis()) / 1000.0;
+      return ReindexStatusResponse.builder()
+          .state(state)
+          .targetIndex(targetIndex)
+          .total(total)
+          .indexed(indexed.get())
+          .failed(failed.get())
+          .documentsPerSecond(Math.round(indexed.get() / seconds * 10) / 10.0)
+          .startedAt(startedAt)
+          .finishedAt(finishedAt)
+          .error(error)
+          .build();
+    }
   }
 
   private String normalizeKeyword(String keyword) {
@@ -111,6 +620,9 @@ public class JobSearchServiceImpl implements JobSearchService {
             .experienceLevel(
                 job.getExperienceLevel() != null ? job.getExperienceLevel().name() : null)
             .educationLevel(job.getEducationLevel() != null ? job.getEducationLevel().name() : null)
+            .applicationCount(job.getApplicationCount())
+            .saveCount(job.getSaveCount())
+            .viewCount(job.getViewCount())
             .build();
 
     List<String> inputs = new ArrayList<>();
@@ -120,8 +632,117 @@ public class JobSearchServiceImpl implements JobSearchService {
     return doc;
   }
 
+  private void applyKeyword(BoolQuery.Builder bool, String keyword) {
+    String normalizedKeyword = normalizeKeyword(keyword);
+    String originalKeyword = keyword.trim();
+
+    bool.must(
+        m ->
+            m.bool(
+                primary -> {
+                  primary.should(
+                      sq ->
+                          sq.bool(
+                              jobTitle -> {
+                                jobTitle.should(
+                                    exact ->
+                                        exact.term(
+                                            t ->
+                                                t.field("jobTitle.keyword")
+                                                    .value(originalKeyword)
+                                                    .boost(12.0f)));
+
+                                jobTitle.should(
+                                    phrase ->
+                                        phrase.matchPhrase(
+                                            mp ->
+                                                mp.field("jobTitle")
+                                                    .query(normalizedKeyword)
+                                                    .slop(1)
+                                                    .boost(9.0f)));
+
+                                jobTitle.should(
+                                    mm ->
+                                        mm.match(
+                                            mt ->
+                                                mt.field("jobTitle")
+                                                    .query(normalizedKeyword)
+                                                    .operator(Operator.And)
+                                                    .fuzziness("1")
+                                                    .boost(8.0f)));
+
+                                jobTitle.minimumShouldMatch("1");
+                                return jobTitle;
+                              }));
+
+                  primary.should(
+                      sq ->
+                          sq.bool(
+                              company -> {
+                                company.should(
+                                    exact ->
+                                        exact.term(
+                                            t ->
+                                                t.field("companyName.keyword")
+                                                    .value(originalKeyword)
+                                                    .boost(6.0f)));
+
+                                company.should(
+                                    phrase ->
+                                        phrase.matchPhrase(
+                                            mp ->
+                                                mp.field("companyName")
+                                                    .query(normalizedKeyword)
+                                                    .slop(1)
+                                                    .boost(5.0f)));
+
+                                company.should(
+                                    mm ->
+                                        mm.match(
+                                            mt ->
+                                                mt.field("companyName")
+                                                    .query(normalizedKeyword)
+                                                    .operator(Operator.And)
+                                                    .fuzziness("1")
+                                                    .boost(4.5f)));
+
+                                company.minimumShouldMatch("1");
+                                return company;
+                              }));
+
+                  primary.minimumShouldMatch("1");
+                  return primary;
+                }));
+
+    bool.should(
+        s ->
+            s.match(
+                mq ->
+                    mq.field("jobDescription")
+                        .query(normalizedKeyword)
+                        .operator(Operator.And)
+                        .boost(1.0f)));
+    bool.should(
+        s ->
+            s.match(
+                mq ->
+                    mq.field("requirement")
+                        .query(normalizedKeyword)
+                        .operator(Operator.And)
+                        .boost(1.0f)));
+
+    bool.should(
+        s ->
+            s.matchPhrasePrefix(
+                mpp -> mpp.field("jobDescription").query(normalizedKeyword).boost(0.5f)));
+    bool.should(
+        s ->
+            s.matchPhrasePrefix(
+                mpp -> mpp.field("requirement").query(normalizedKeyword).boost(0.5f)));
+  }
+
   @Override
-  public PageResponse<List<JobResponse>> searchAdvanced(
+  public PageResponse<List<JobCardResponse>> searchAdvanced(
       String keyword,
       List<String> industryIds,
       List<String> provinceIds,
@@ -135,253 +756,287 @@ public class JobSearchServiceImpl implements JobSearchService {
       String salaryUnit,
       String sort,
       Pageable pageable) {
+    List<String> industries = canonicalIds(industryIds);
+    List<String> provinces = canonicalIds(provinceIds);
+    List<String> levels = canonicalValues(jobLevels);
+    List<String> types = canonicalValues(jobTypes);
+    List<String> experiences = canonicalValues(experienceLevels);
+    List<String> educations = canonicalValues(educationLevels);
+    Integer postedWithin = bucketPostedWithinDays(postedWithinDays);
+    String fingerprint =
+        String.join(
+            "|",
+            // Exact-term clauses match the keyword as typed, so only trimming is canonical
+            "kw=" + (keyword == null ? "" : keyword.trim()),
+            "ind=" + industries,
+            "prov=" + provinces,
+            "lvl=" + levels,
+            "type=" + types,
+            "exp=" + experiences,
+            "edu=" + educations,
+            "days=" + postedWithin,
+            "min=" + minSalary,
+            "max=" + maxSalary,
+            "unit=" + salaryUnit,
+            "sort=" + sort,
+            "page=" + pageable.getPageNumber(),
+            "size=" + pageable.getPageSize());
 
-    List<Long> industryIdList =
-        industryIds == null
-            ? List.of()
-            : industryIds.stream()
-                .filter(StringUtils::hasText)
-                .map(Long::valueOf)
-                .filter(id -> id > 0)
-                .toList();
-
-    List<Long> provinceIdList =
-        provinceIds == null
-            ? List.of()
-            : provinceIds.stream()
-                .filter(StringUtils::hasText)
-                .map(Long::valueOf)
-                .filter(id -> id > 0)
-                .toList();
+    CachedSearchResult result =
+        searchResultCache.get(
+            fingerprint,
+            () -> {
+              NativeQuery nq =
+                  buildAdvancedQuery(
+                          keyword,
+                          industries,
+                          provinces,
+                          levels,
+                          types,
+                          experiences,
+                          educations,
+                          postedWithin,
+                          minSalary,
+                          maxSalary,
+                          salaryUnit,
+                          sort,
+                          true)
+                      .withPageable(pageable)
+                      .withSourceFilter(new FetchSourceFilter(new String[] {"id"}, null))
+                      .build();
+              SearchHits<JobDocument> hits =
+                  operations.search(nq, JobDocument.class, IndexCoordinates.of(JOBS_ALIAS));
+              List<Long> ids =
+                  hits.stream()
+                      .map(h -> Long.valueOf(h.getId()))
+                      .collect(Collectors.toCollection(ArrayList::new));
+              return new CachedSearchResult(ids, hits.getTotalHits(), toFacets(hits));
+            });
 
-    var b = NativeQuery.builder();
-    b.withQuery(
-        q ->
-            q.bool(
-                bool -> {
-                  bool.filter(
-                      f -> f.term(t -> t.field("status").value(JobStatus.APPROVED.getValue())));
+    Page<JobCardResponse> page =
+        new PageImpl<>(jobCardService.getJobCards(result.getIds()), pageable, result.getTotal());
 
-                  if (keyword != null && !keyword.isBlank()) {
-                    String normalizedKeyword = normalizeKeyword(keyword);
-                    String originalKeyword = keyword.trim();
-
-                    bool.must(
-                        m ->
-                            m.bool(
-                                primary -> {
-                                  primary.should(
-                                      sq ->
-                                          sq.bool(
-                                              jobTitle -> {
-                                                jobTitle.should(
-                                                    exact ->
-                                                        exact.term(
-                                                            t ->
-                                                                t.field("jobTitle.keyword")
-                                                                    .value(originalKeyword)
-                                                                    .boost(12.0f)));
-
-                                                jobTitle.should(
-                                                    phrase ->
-                                                        phrase.matchPhrase(
-                                                            mp ->
-                                                                mp.field("jobTitle")
-                                                                    .query(normalizedKeyword)
-                                                                    .slop(1)
-                                                                    .boost(9.0f)));
-
-                                                jobTitle.should(
-                                                    mm ->
-                                                        mm.match(
-                                                            mt ->
-                                                                mt.field("jobTitle")
-                                                                    .query(normalizedKeyword)
-                                                                    .operator(Operator.And)
-                                                                    .fuzziness("1")
-                                                                    .boost(8.0f)));
-
-                                                jobTitle.minimumShouldMatch("1");
-                                                return jobTitle;
-                                              }));
-
-                                  primary.should(
-                                      sq ->
-                                          sq.bool(
-                                              company -> {
-                                                company.should(
-                                                    exact ->
-                                                        exact.term(
-                                                            t ->
-                                                                t.field("companyName.keyword")
-                                                                    .value(originalKeyword)
-                                                                    .boost(6.0f)));
-
-                                                company.should(
-                                                    phrase ->
-                                                        phrase.matchPhrase(
-                                                            mp ->
-                                                                mp.field("companyName")
-                                                                    .query(normalizedKeyword)
-                                                                    .slop(1)
-                                                                    .boost(5.0f)));
-
-                                                company.should(
-                                                    mm ->
-                                                        mm.match(
-                                                            mt ->
-                                                                mt.field("companyName")
-                                                                    .query(normalizedKeyword)
-                                                                    .operator(Operator.And)
-                                                                    .fuzziness("1")
-                                                                    .boost(4.5f)));
-
-                                                company.minimumShouldMatch("1");
-                                                return company;
-                                              }));
-
-                                  primary.minimumShouldMatch("1");
-                                  return primary;
-                                }));
-
-                    bool.should(
-                        s ->
-                            s.match(
-                                mq ->
-                                    mq.field("jobDescription")
-                                        .query(normalizedKeyword)
-                                        .operator(Operator.And)
-                                        .boost(1.0f)));
-                    bool.should(
-                        s ->
-                            s.match(
-                                mq ->
-                                    mq.field("requirement")
-                                        .query(normalizedKeyword)
-                                        .operator(Operator.And)
-                                        .boost(1.0f)));
-
-                    bool.should(
-                        s ->
-                            s.matchPhrasePrefix(
-                                mpp ->
-                                    mpp.field("jobDescription")
-                                        .query(normalizedKeyword)
-                                        .boost(0.5f)));
-                    bool.should(
-                        s ->
-                            s.matchPhrasePrefix(
-                                mpp ->
-                                    mpp.field("requirement").query(normalizedKeyword).boost(0.5f)));
-                  }
+    return PageResponse.<List<JobCardResponse>>builder()
+        .pageNumber(page.getNumber() + 1)
+        .pageSize(page.getSize())
+        .totalPages(page.getTotalPages())
+        .numberOfElements(page.getNumberOfElements())
+        .items(page.getContent())
+        .facets(result.getFacets())
+        .build();
+  }
+
+  /**
+   * Walks the advanced search results with {@code search_after} over a point-in-time, so every page
+   * costs the same no matter how deep it is and the 10,000 hit window does not apply. The sort
+   * always ends with the document id as a tie-breaker; the cursor carries the point-in-time id and
+   * the sort values of the last hit. The point-in-time is released once the last page is served.
+   */
+  @Override
+  public PageResponse<List<JobCardResponse>> searchAdvancedByCursor(
+      String keyword,
+      List<String> industryIds,
+      List<String> provinceIds,
+      List<String> jobLevels,
+      List<String> jobTypes,
+      List<String> experienceLevels,
+      List<String> educationLevels,
+      Integer postedWithinDays,
+      Double minSalary,
+      Double maxSalary,
+      String salaryUnit,
+      String sort,
+      String cursor,
+      int pageSize) {
+    CursorUtils.SearchAfterCursor decoded = CursorUtils.decodeSearchAfter(cursor);
+    String pitId =
+        decoded != null
+            ? decoded.pitId()
+            : operations.openPointInTime(IndexCoordinates.of(JOBS_ALIAS), PIT_KEEP_ALIVE);
 
-                  if (postedWithinDays != null && postedWithinDays > 0) {
-                    OffsetDateTime nowUtc = OffsetDateTime.now(ZoneOffset.UTC);
-                    OffsetDateTime from = nowUtc.minusDays(postedWithinDays);
-                    String fromStr = from.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    NativeQueryBuilder b =
+        buildAdvancedQuery(
+            keyword,
+            canonicalIds(industryIds),
+            canonicalIds(provinceIds),
+            canonicalValues(jobLevels),
+            canonicalValues(jobTypes),
+            canonicalValues(experienceLevels),
+            canonicalValues(educationLevels),
+            bucketPostedWithinDays(postedWithinDays),
+            minSalary,
+            maxSalary,
+            salaryUnit,
+            sort,
+            false);
+    if (isRankedSort(sort)) {
+      b.withSort(s -> s.score(sc -> sc.order(SortOrder.Desc)));
+    }
+    b.withSort(s -> s.field(f -> f.field("id").order(SortOrder.Asc)));
+    if (decoded != null) {
+      b.withSearchAfter(decoded.searchAfter());
+    }
+    NativeQuery nq =
+        b.withPointInTime(new PointInTime(pitId, PIT_KEEP_ALIVE))
+            .withPageable(PageRequest.of(0, pageSize + 1))
+            .withTrackTotalHits(false)
+            .withSourceFilter(new FetchSourceFilter(new String[] {"id"}, null))
+            .build();
 
-                    bool.filter(f -> f.range(r -> r.field("createdAt").gte(JsonData.of(fromStr))));
-                  }
+    SearchHits<JobDocument> hits;
+    try {
+      hits = operations.search(nq, JobDocument.class, IndexCoordinates.of(JOBS_ALIAS));
+    } catch (UncategorizedElasticsearchException e) {
+      if (decoded != null && Integer.valueOf(404).equals(e.getStatusCode())) {
+        throw new AppException(ErrorCode.INVALID_CURSOR);
+      }
+      throw e;
+    }
 
-                  if (!industryIdList.isEmpty()) {
-                    bool.filter(
-                        f ->
-                            f.terms(
-                                t ->
-                                    t.field("industries")
-                                        .terms(
-                                            tv ->
-                                                tv.value(
-                                                    industryIdList.stream()
-                                                        .map(
-                                                            id -> FieldValue.of(String.valueOf(id)))
-                                                        .toList()))));
-                  }
+    List<SearchHit<JobDocument>> pageHits = hits.getSearchHits();
+    boolean hasNext = pageHits.size() > pageSize;
+    if (hasNext) {
+      pageHits = pageHits.subList(0, pageSize);
+    }
+    String nextPitId = hits.getPointInTimeId() != null ? hits.getPointInTimeId() : pitId;
+    String nextCursor = null;
+    if (hasNext) {
+      nextCursor =
+          CursorUtils.encodeSearchAfter(
+              nextPitId, pageHits.get(pageHits.size() - 1).getSortValues());
+    } else {
+      operations.closePointInTime(nextPitId);
+    }
 
-                  if (!provinceIdList.isEmpty()) {
-                    bool.filter(
-                        f ->
-                            f.terms(
-                                t ->
-                                    t.field("provinces")
-                                        .terms(
-                                            tv ->
-                                                tv.value(
-                                                    provinceIdList.stream()
-                                                        .map(FieldValue::of)
-                                                        .toList()))));
-                  }
+    List<JobCardResponse> items =
+        jobCardService.getJobCards(pageHits.stream().map(h -> Long.valueOf(h.getId())).toList());
+    return PageResponse.<List<JobCardResponse>>builder()
+        .pageSize(pageSize)
+        .numberOfElements(items.size())
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .items(items)
+        .build();
+  }
 
-                  if (jobLevels != null && !jobLevels.isEmpty()) {
-                    bool.filter(
-                        f ->
-                            f.terms(
-                                t ->
-                                    t.field("jobLevel")
-                                        .terms(
-                                            tv ->
-                                                tv.value(
-                                                    jobLevels.stream()
-                                                        .map(FieldValue::of)
-                                                        .toList()))));
-                  }
+  /** Positive ids, deduplicated and sorted, so equivalent filters share one fingerprint. */
+  private List<String> canonicalIds(List<String> ids) {
+    if (ids == null) return List.of();
+    return ids.stream()
+        .filter(StringUtils::hasText)
+        .map(id -> Long.valueOf(id.trim()))
+        .filter(id -> id > 0)
+        .distinct()
+        .sorted()
+        .map(String::valueOf)
+        .toList();
+  }
 
-                  if (jobTypes != null && !jobTypes.isEmpty()) {
-                    bool.filter(
-                        f ->
-                            f.terms(
-                                t ->
-                                    t.field("jobType")
-                                        .terms(
-                                            tv ->
-                                                tv.value(
-                                                    jobTypes.stream()
-                                                        .map(FieldValue::of)
-                                                        .toList()))));
-                  }
+  /**
+   * Enum filter values, upper-cased as they are indexed, deduplicated and sorted. Validation
+   * accepts them in any case.
+   */
+  private List<String> canonicalValues(List<String> values) {
+    if (values == null) return List.of();
+    return values.stream()
+        .filter(StringUtils::hasText)
+        .map(v -> v.trim().toUpperCase(Locale.ROOT))
+        .distinct()
+        .sorted()
+        .toList();
+  }
 
-                  if (experienceLevels != null && !experienceLevels.isEmpty()) {
-                    bool.filter(
-                        f ->
-                            f.terms(
-                                t ->
-                                    t.field("experienceLevel")
-                                        .terms(
-                                            tv ->
-                                                tv.value(
-                                                    experienceLevels.stream()
-                                                        .map(FieldValue::of)
-                                                        .toList()))));
-                  }
+  /**
+   * Rounds the recency filter up to the next of the windows offered by the search UI, so arbitrary
+   * values do not fragment the result cache. Values beyond the largest window are kept as is.
+   */
+  private Integer bucketPostedWithinDays(Integer postedWithinDays) {
+    if (postedWithinDays == null || postedWithinDays <= 0) return null;
+    for (int bucket : POSTED_WITHIN_DAYS_BUCKETS) {
+      if (postedWithinDays <= bucket) return bucket;
+    }
+    return postedWithinDays;
+  }
 
-                  if (educationLevels != null && !educationLevels.isEmpty()) {
-                    bool.filter(
-                        f ->
-                            f.terms(
-                                t ->
-                                    t.field("educationLevel")
-                                        .terms(
-                                            tv ->
-                                                tv.value(
-                                                    educationLevels.stream()
-                                                        .map(FieldValue::of)
-                                                        .toList()))));
-                  }
+  /**
+   * Builds the advanced search query. Filters that back a sidebar facet are kept apart from the
+   * scoring query: when {@code withFacets} is set they move to the {@code post_filter}, and every
+   * facet is aggregated under all active filters except its own, so a selected value never hides
+   * its alternatives. Without an explicit sort, hits are ranked by popularity and freshness. Filter
+   * lists are expected in canonical form.
+   */
+  private NativeQueryBuilder buildAdvancedQuery(
+      String keyword,
+      List<String> industryIds,
+      List<String> provinceIds,
+      List<String> jobLevels,
+      List<String> jobTypes,
+      List<String> experienceLevels,
+      List<String> educationLevels,
+      Integer postedWithinDays,
+      Double minSalary,
+      Double maxSalary,
+      String salaryUnit,
+      String sort,
+      boolean withFacets) {
+    boolean hasKeyword = keyword != null && !keyword.isBlank();
+    Map<String, Query> facetFilters =
+        facetFilters(
+            industryIds,
+            provinceIds,
+            jobLevels,
+            jobTypes,
+            experienceLevels,
+            educationLevels,
+            minSalary,
+            maxSalary,
+            salaryUnit);
 
-                  if (salaryUnit != null && !salaryUnit.isBlank()) {
-                    bool.filter(f -> f.term(t -> t.field("salaryUnit").value(salaryUnit)));
-                    if (minSalary != null) {
+    NativeQueryBuilder b = NativeQuery.builder();
+    Query filtered =
+        Query.of(
+            q ->
+                q.bool(
+                    bool -> {
                       bool.filter(
-                          f -> f.range(r -> r.field("maxSalary").gte(JsonData.of(minSalary))));
-                    }
-                    if (maxSalary != null) {
-                      bool.filter(
-                          f -> f.range(r -> r.field("minSalary").lte(JsonData.of(maxSalary))));
-                    }
-                  }
+                          f -> f.term(t -> t.field("status").value(JobStatus.APPROVED.getValue())));
 
-                  return bool;
-                }));
+                      if (hasKeyword) {
+                        applyKeyword(bool, keyword);
+                      }
+
+                      if (postedWithinDays != null && postedWithinDays > 0) {
+                        OffsetDateTime nowUtc = OffsetDateTime.now(ZoneOffset.UTC);
+                        OffsetDateTime from = nowUtc.minusDays(postedWithinDays);
+                        String fromStr = from.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+
+                        bool.filter(
+                            f -> f.range(r -> r.field("createdAt").gte(JsonData.of(fromStr))));
+                      }
+
+                      if (!withFacets) {
+                        bool.filter(new ArrayList<>(facetFilters.values()));
+                      }
+
+                      return bool;
+                    }));
+    Query relevant = hasKeyword ? withRelevanceCutoff(filtered) : filtered;
+    b.withQuery(isRankedSort(sort) ? rankByPopularity(relevant, hasKeyword) : relevant);
+
+    if (withFacets) {
+      if (!facetFilters.isEmpty()) {
+        b.withFilter(q -> q.bool(bool -> bool.filter(new ArrayList<>(facetFilters.values()))));
+      }
+      addFacetAggregation(b, FACET_INDUSTRIES, facetFilters, termsAggregation("industries"));
+      addFacetAggregation(b, FACET_PROVINCES, facetFilters, termsAggregation("provinces"));
+      addFacetAggregation(b, FACET_JOB_LEVELS, facetFilters, termsAggregation("jobLevel"));
+      addFacetAggregation(b, FACET_JOB_TYPES, facetFilters, termsAggregation("jobType"));
+      addFacetAggregation(
+          b, FACET_EXPERIENCE_LEVELS, facetFilters, termsAggregation("experienceLevel"));
+      addFacetAggregation(
+          b, FACET_EDUCATION_LEVELS, facetFilters, termsAggregation("educationLevel"));
+      addSalaryFacetAggregation(b, facetFilters, salaryUnit);
+    }
 
     if (sort != null && !sort.isBlank()) {
       switch (sort) {
@@ -399,33 +1054,364 @@ public class JobSearchServiceImpl implements JobSearchService {
       }
     }
 
-    if (keyword != null && !keyword.isBlank()) {
-      b.withMinScore(3.0f);
+    return b;
+  }
+
+  /**
+   * Drops keyword hits whose text score is below {@link #KEYWORD_MIN_SCORE}. The cutoff sits on an
+   * inner {@code function_score} without functions, so it applies to the text score alone and the
+   * popularity boost wrapped around it cannot lift an irrelevant hit above it.
+   */
+  private Query withRelevanceCutoff(Query query) {
+    return Query.of(q -> q.functionScore(fs -> fs.query(query).minScore(KEYWORD_MIN_SCORE)));
+  }
+
+  /** Whether results are ordered by score rather than by one of the advanced sort fields. */
+  private boolean isRankedSort(String sort) {
+    return sort == null || !ADVANCED_SORT_FIELDS.contains(sort);
+  }
+
+  /**
+   * Wraps the search in a {@code function_score} that blends popularity and freshness: the
+   * application, save and view counters on a log scale plus a gaussian decay on the posting date.
+   * The functions are summed on top of a constant baseline, so the boost is never below 1; with a
+   * keyword it multiplies the text score, otherwise it is the score.
+   */
+  private Query rankByPopularity(Query query, boolean hasKeyword) {
+    return Query.of(
+        q ->
+            q.functionScore(
+                fs ->
+                    fs.query(query)
+                        .functions(f -> f.weight(1.0))
+                        .functions(f -> popularityFunction(f, "applicationCount", 1.0))
+                        .functions(f -> popularityFunction(f, "saveCount", 0.5))
+                        .functions(f -> popularityFunction(f, "viewCount", 0.1))
+                        .functions(
+                            f ->
+                                f.gauss(
+                                        g ->
+                                            g.field("createdAt")
+                                                .placement(
+                                                    p ->
+                                                        p.origin(JsonData.of("now"))
+                                                            .scale(JsonData.of(FRESHNESS_SCALE))
+                                                            .offset(JsonData.of(FRESHNESS_OFFSET))
+                                                            .decay(0.5)))
+                                    .weight(FRESHNESS_WEIGHT))
+                        .scoreMode(FunctionScoreMode.Sum)
+                        .boostMode(
+                            hasKeyword ? FunctionBoostMode.Multiply : FunctionBoostMode.Replace)));
+  }
+
+  private ObjectBuilder<FunctionScore> popularityFunction(
+      FunctionScore.Builder f, String field, double weight) {
+    return f.fieldValueFactor(
+            v -> v.field(field).modifier(FieldValueFactorModifier.Log1p).missing(0.0))
+        .weight(weight);
+  }
+
+  /** Filters that back a sidebar facet, keyed by facet name. Expects canonical filter lists. */
+  private Map<String, Query> facetFilters(
+      List<String> industryIds,
+      List<String> provinceIds,
+      List<String> jobLevels,
+      List<String> jobTypes,
+      List<String> experienceLevels,
+      List<String> educationLevels,
+      Double minSalary,
+      Double maxSalary,
+      String salaryUnit) {
+    List<Long> industryIdList = industryIds.stream().map(Long::valueOf).toList();
+
+    List<Long> provinceIdList = provinceIds.stream().map(Long::valueOf).toList();
+
+    Map<String, Query> facetFilters = new LinkedHashMap<>();
+    if (!industryIdList.isEmpty()) {
+      facetFilters.put(
+          FACET_INDUSTRIES,
+          termsQuery("industries", industryIdList.stream().map(String::valueOf).toList()));
+    }
+    if (!provinceIdList.isEmpty()) {
+      facetFilters.put(FACET_PROVINCES, termsQuery("provinces", provinceIdList));
+    }
+    if (jobLevels != null && !jobLevels.isEmpty()) {
+      facetFilters.put(FACET_JOB_LEVELS, termsQuery("jobLevel", jobLevels));
+    }
+    if (jobTypes != null && !jobTypes.isEmpty()) {
+      facetFilters.put(FACET_JOB_TYPES, termsQuery("jobType", jobTypes));
+    }
+    if (experienceLevels != null && !experienceLevels.isEmpty()) {
+      facetFilters.put(FACET_EXPERIENCE_LEVELS, termsQuery("experienceLevel", experienceLevels));
+    }
+    if (educationLevels != null && !educationLevels.isEmpty()) {
+      facetFilters.put(FACET_EDUCATION_LEVELS, termsQuery("educationLevel", educationLevels));
     }
+    if (salaryUnit != null && !salaryUnit.isBlank()) {
+      facetFilters.put(
+          FACET_SALARY_RANGES,
+          Query.of(
+              q ->
+                  q.bool(
+                      bool -> {
+                        bool.filter(f -> f.term(t -> t.field("salaryUnit").value(salaryUnit)));
+                        if (minSalary != null) {
+                          bool.filter(
+                              f -> f.range(r -> r.field("maxSalary").gte(JsonData.of(minSalary))));
+                        }
+                        if (maxSalary != null) {
+                          bool.filter(
+                              f -> f.range(r -> r.field("minSalary").lte(JsonData.of(maxSalary))));
+                        }
+                        return bool;
+                      })));
+    }
+    return facetFilters;
+  }
 
-    NativeQuery nq = b.withPageable(pageable).build();
-    SearchHits<JobDocument> hits =
-        operations.search(nq, JobDocument.class, IndexCoordinates.of("jobs"));
+  private <T> Query termsQuery(String field, List<T> values) {
+    List<FieldValue> fieldValues =
+        values.stream()
+            .map(v -> v instanceof Long l ? FieldValue.of(l) : FieldValue.of(String.valueOf(v)))
+            .toList();
+    return Query.of(q -> q.terms(t -> t.field(field).terms(tv -> tv.value(fieldValues))));
+  }
 
-    List<Long> ids = hits.stream().map(h -> Long.valueOf(h.getContent().getId())).toList();
+  private Aggregation termsAggregation(String field) {
+    return Aggregation.of(a -> a.terms(t -> t.field(field).size(FACET_SIZE)));
+  }
+
+  private void addFacetAggregation(
+      NativeQueryBuilder b, String facet, Map<String, Query> facetFilters, Aggregation values) {
+    addFacetAggregation(b, facet, otherFacetFilters(facetFilters, facet), values);
+  }
 
-    List<Job> jobs = new ArrayList<>(ids.isEmpty() ? List.of() : jobRepository.findAllById(ids));
+  private void addFacetAggregation(
+      NativeQueryBuilder b, String facet, List<Query> filters, Aggregation values) {
+    b.withAggregation(
+        facet,
+        Aggregation.of(
+            a ->
+                a.filter(f -> f.bool(bool -> bool.filter(filters)))
+                    .aggregations(FACET_VALUES, values)));
+  }
 
-    Map<Long, Integer> order = new HashMap<>();
-    for (int i = 0; i < ids.size(); i++) {
-      order.put(ids.get(i), i);
+  private List<Query> otherFacetFilters(Map<String, Query> facetFilters, String facet) {
+    return facetFilters.entrySet().stream()
+        .filter(e -> !e.getKey().equals(facet))
+        .map(Map.Entry::getValue)
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  /**
+   * Salary buckets only make sense within one currency, so they are computed for the requested
+   * unit, or VND when none is given, over the upper bound of each posted range.
+   */
+  private void addSalaryFacetAggregation(
+      NativeQueryBuilder b, Map<String, Query> facetFilters, String salaryUnit) {
+    SalaryUnit unit =
+        StringUtils.hasText(salaryUnit) ? SalaryUnit.fromValue(salaryUnit) : SalaryUnit.VND;
+    long[] bounds = SALARY_FACET_BOUNDS.get(unit);
+    List<AggregationRange> ranges = new ArrayList<>();
+    for (int i = 0; i <= bounds.length; i++) {
+      String from = i > 0 ? String.valueOf(bounds[i - 1]) : null;
+      String to = i < bounds.length ? String.valueOf(bounds[i]) : null;
+      String key = (from != null ? from : "*") + "-" + (to != null ? to : "*");
+      ranges.add(
+          AggregationRange.of(
+              r -> {
+                r.key(key);
+                if (from != null) r.from(from);
+                if (to != null) r.to(to);
+                return r;
+              }));
     }
+    List<Query> filters = otherFacetFilters(facetFilters, FACET_SALARY_RANGES);
+    filters.add(Query.of(q -> q.term(t -> t.field("salaryUnit").value(unit.getValue()))));
+    addFacetAggregation(
+        b,
+        FACET_SALARY_RANGES,
+        filters,
+        Aggregation.of(a -> a.range(r -> r.field("maxSalary").ranges(ranges))));
+  }
 
-    jobs.sort(Comparator.comparingInt(j -> order.getOrDefault(j.getId(), Integer.MAX_VALUE)));
+  private Map<String, List<FacetBucketResponse>> toFacets(SearchHits<JobDocument> hits) {
+    Map<String, List<FacetBucketResponse>> facets = new LinkedHashMap<>();
+    if (!(hits.getAggregations() instanceof ElasticsearchAggregations aggregations)) {
+      return facets;
+    }
+    aggregations
+        .aggregationsAsMap()
+        .forEach(
+            (name, aggregation) -> {
+              Aggregate values =
+                  aggregation
+                      .aggregation()
+                      .getAggregate()
+                      .filter()
+                      .aggregations()
+                      .get(FACET_VALUES);
+              List<FacetBucketResponse> buckets = new ArrayList<>();
+              if (values.isSterms()) {
+                values
+                    .sterms()
+                    .buckets()
+                    .array()
+                    .forEach(
+                        bucket ->
+                            buckets.add(
+                                new FacetBucketResponse(
+                                    bucket.key().stringValue(), bucket.docCount())));
+              } else if (values.isLterms()) {
+                values
+                    .lterms()
+                    .buckets()
+                    .array()
+                    .forEach(
+                        bucket ->
+                            buckets.add(
+                                new FacetBucketResponse(
+                                    String.valueOf(bucket.key()), bucket.docCount())));
+              } else if (values.isRange()) {
+                values
+                    .range()
+                    .buckets()
+                    .array()
+                    .forEach(
+                        bucket ->
+                            buckets.add(new FacetBucketResponse(bucket.key(), bucket.docCount())));
+              }
+              facets.put(name, buckets);
+            });
+    return facets;
+  }
 
-    Page<Job> page = new PageImpl<>(jobs, pageable, hits.getTotalHits());
+  /**
+   * Typeahead over the completion suggester: an FST prefix lookup on accent-folded titles and
+   * company names, restricted to approved jobs through the status context, with duplicates
+   * collapsed. Popular prefixes are served from a short-lived cache.
+   */
+  @Override
+  @Cacheable(value = "job_suggestions", key = "#prefix.trim().toLowerCase() + ':' + #limit")
+  public List<String> suggest(String prefix, int limit) {
+    String text = prefix.trim();
+    CompletionContext approved =
+        CompletionContext.of(cc -> cc.context(ctx -> ctx.category(JobStatus.APPROVED.getValue())));
+    try {
+      SearchResponse<Void> response =
+          elasticsearchClient.search(
+              s ->
+                  s.index(JOBS_ALIAS)
+                      .size(0)
+                      .source(src -> src.fetch(false))
+                      .suggest(
+                          sg ->
+                              sg.suggesters(
+                                  SUGGESTER_NAME,
+                                  fs ->
+                                      fs.prefix(text)
+                                          .completion(
+                                              c ->
+                                                  c.field("suggest")
+                                                      .size(limit)
+                                                      .skipDuplicates(true)
+                                                      .contexts("status", List.of(approved))))),
+              Void.class);
+      return response.suggest().getOrDefault(SUGGESTER_NAME, List.of()).stream()
+          .filter(Suggestion::isCompletion)
+          .flatMap(suggestion -> suggestion.completion().options().stream())
+          .map(CompletionSuggestOption::text)
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 
-    return PageResponse.<List<JobResponse>>builder()
-        .pageNumber(page.getNumber() + 1)
-        .pageSize(page.getSize())
-        .totalPages(page.getTotalPages())
-        .numberOfElements(page.getNumberOfElements())
-        .items(page.getContent().stream().map(jobMapper::toDTO).toList())
-        .build();
+  /**
+   * Plans the filtered job listings against the index. The keyword filter mirrors the database
+   * predicate ({@code JobRepository.KEYWORD_FILTER}) so both paths return the same jobs: every term
+   * of the keyword must appear across title, company, description and requirement, or the title or
+   * company must contain it. Terms are folded like the index, without synonyms, and no score
+   * threshold applies.
+   */
+  @Override
+  public Page<Long> searchIds(String keyword, Long industryId, Long provinceId, Pageable pageable) {
+    var b = NativeQuery.builder();
+    b.withQuery(
+        q ->
+            q.bool(
+                bool -> {
+                  if (keyword != null && !keyword.isBlank()) {
+                    applyListingKeyword(bool, keyword.trim());
+                  }
+                  if (industryId != null) {
+                    bool.filter(
+                        f -> f.term(t -> t.field("industries").value(String.valueOf(industryId))));
+                  }
+                  if (provinceId != null) {
+                    bool.filter(f -> f.term(t -> t.field("provinces").value(provinceId)));
+                  }
+                  return bool;
+                }));
+
+    for (Sort.Order order : pageable.getSort()) {
+      String field = SORT_FIELDS.get(order.getProperty());
+      if (field == null) {
+        throw new IllegalArgumentException("Unsupported sort field: " + order.getProperty());
+      }
+      SortOrder direction = order.isAscending() ? SortOrder.Asc : SortOrder.Desc;
+      b.withSort(s -> s.field(f -> f.field(field).order(direction)));
+    }
+    // Same tie-breakers as the database listings, so pages never overlap or skip jobs
+    if (pageable.getSort().getOrderFor("createdAt") == null) {
+      b.withSort(s -> s.field(f -> f.field("createdAt").order(SortOrder.Desc)));
+    }
+    b.withSort(s -> s.field(f -> f.field("id").order(SortOrder.Desc)));
+
+    NativeQuery nq =
+        b.withPageable(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+            .withTrackTotalHits(true)
+            .withSourceFilter(new FetchSourceFilter(new String[] {"id"}, null))
+            .build();
+    SearchHits<JobDocument> hits =
+        operations.search(nq, JobDocument.class, IndexCoordinates.of(JOBS_ALIAS));
+
+    List<Long> ids = hits.stream().map(h -> Long.valueOf(h.getId())).toList();
+    return new PageImpl<>(ids, pageable, hits.getTotalHits());
+  }
+
+  private void applyListingKeyword(BoolQuery.Builder bool, String keyword) {
+    bool.must(
+        m ->
+            m.bool(
+                match -> {
+                  match.should(
+                      s ->
+                          s.multiMatch(
+                              mm ->
+                                  mm.query(keyword)
+                                      .fields(
+                                          "jobTitle",
+                                          "companyName",
+                                          "jobDescription",
+                                          "requirement")
+                                      .type(TextQueryType.CrossFields)
+                                      .operator(Operator.And)
+                                      .analyzer(LISTING_ANALYZER)));
+                  match.should(
+                      s ->
+                          s.matchPhrasePrefix(
+                              mp ->
+                                  mp.field("jobTitle").query(keyword).analyzer(LISTING_ANALYZER)));
+                  match.should(
+                      s ->
+                          s.matchPhrasePrefix(
+                              mp ->
+                                  mp.field("companyName")
+                                      .query(keyword)
+                                      .analyzer(LISTING_ANALYZER)));
+                  match.minimumShouldMatch("1");
+                  return match;
+                }));
   }
 }
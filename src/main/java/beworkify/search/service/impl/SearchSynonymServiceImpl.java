@@ -0,0 +1,118 @@
+package beworkify.search.service.impl;
+
+import beworkify.dto.response.SearchSynonymsResponse;
+import beworkify.enumeration.ErrorCode;
+import beworkify.exception.AppException;
+import beworkify.search.service.SearchSynonymService;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.synonyms.SynonymRule;
+import co.elastic.clients.elasticsearch.synonyms.SynonymRuleRead;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * Implementation of the SearchSynonymService interface. The rules live in an Elasticsearch synonyms
+ * set referenced by the updateable {@code synonym_graph} filter of the {@code vn_search} analyzer.
+ * Documents are indexed without synonyms, so replacing the set and reloading the search analyzers
+ * takes effect on the next query. The set is seeded from {@code elasticsearch/job-synonyms.txt}
+ * when it does not exist yet, which must happen before an index referencing it is created.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchSynonymServiceImpl implements SearchSynonymService {
+
+  private static final String SYNONYMS_SET = "job-synonyms";
+  private static final String DEFAULT_SYNONYMS = "elasticsearch/job-synonyms.txt";
+  private static final int MAX_RULES = 10_000;
+  private static final List<String> SEARCH_INDICES = List.of("jobs", "job_alerts");
+
+  private final ElasticsearchClient elasticsearchClient;
+
+  @Override
+  public void ensureSynonymSet() {
+    try {
+      elasticsearchClient.synonyms().getSynonym(g -> g.id(SYNONYMS_SET).size(1));
+    } catch (ElasticsearchException e) {
+      if (e.status() != 404) throw e;
+      putRules(defaultRules());
+      log.info("Created synonyms set {} from {}", SYNONYMS_SET, DEFAULT_SYNONYMS);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public SearchSynonymsResponse getSynonyms() {
+    try {
+      List<String> rules =
+          elasticsearchClient
+              .synonyms()
+              .getSynonym(g -> g.id(SYNONYMS_SET).size(MAX_RULES))
+              .synonymsSet()
+              .stream()
+              .map(SynonymRuleRead::synonyms)
+              .toList();
+      return new SearchSynonymsResponse(rules);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public SearchSynonymsResponse replaceSynonyms(List<String> rules) {
+    List<String> normalized = rules.stream().map(String::trim).distinct().toList();
+    try {
+      putRules(normalized);
+    } catch (ElasticsearchException e) {
+      if (e.status() == 400) throw new AppException(ErrorCode.INVALID_SYNONYM_RULES);
+      throw e;
+    }
+    reloadSearchAnalyzers();
+    log.info("Replaced synonyms set {} with {} rules", SYNONYMS_SET, normalized.size());
+    return new SearchSynonymsResponse(normalized);
+  }
+
+  private void putRules(List<String> rules) {
+    List<SynonymRule> synonymRules =
+        rules.stream().map(rule -> SynonymRule.of(r -> r.synonyms(rule))).toList();
+    try {
+      elasticsearchClient.synonyms().putSynonym(p -> p.id(SYNONYMS_SET).synonymsSet(synonymRules));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Reloads the search analyzers explicitly, so the new rules are live when the call returns. */
+  private void reloadSearchAnalyzers() {
+    try {
+      elasticsearchClient
+          .indices()
+          .reloadSearchAnalyzers(
+              r -> r.index(SEARCH_INDICES).ignoreUnavailable(true).allowNoIndices(true));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private List<String> defaultRules() {
+    try {
+      String content =
+          new ClassPathResource(DEFAULT_SYNONYMS).getContentAsString(StandardCharsets.UTF_8);
+      return content.lines().map(String::trim).filter(StringUtils::hasText).toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
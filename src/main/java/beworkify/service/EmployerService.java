@@ -4,6 +4,7 @@ import beworkify.dto.request.*;
 import beworkify.dto.response.EmployerResponse;
 import beworkify.dto.response.PageResponse;
 import beworkify.entity.Employer;
+import beworkify.enumeration.CountMode;
 import beworkify.enumeration.LevelCompanySize;
 import jakarta.mail.MessagingException;
 import java.io.UnsupportedEncodingException;
@@ -26,7 +27,8 @@ public interface EmployerService {
       String keyword,
       LevelCompanySize companySize,
       Long provinceId,
-      boolean isAdmin);
+      boolean isAdmin,
+      CountMode countMode);
 
   EmployerResponse signUpEmployer(EmployerRequest request, boolean isMobile)
       throws MessagingException, UnsupportedEncodingException;
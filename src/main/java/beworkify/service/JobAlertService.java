@@ -0,0 +1,23 @@
+package beworkify.service;
+
+import beworkify.dto.request.JobAlertRequest;
+import beworkify.dto.response.JobAlertResponse;
+import java.util.List;
+
+/**
+ * Service interface for managing job alerts. Job seekers save search criteria and are notified when
+ * a matching job is approved.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+public interface JobAlertService {
+
+  JobAlertResponse create(JobAlertRequest request);
+
+  List<JobAlertResponse> getMyAlerts();
+
+  void delete(Long id);
+
+  void notifyMatchingAlerts(Long jobId);
+}
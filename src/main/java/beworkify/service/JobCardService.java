@@ -0,0 +1,16 @@
+package beworkify.service;
+
+import beworkify.dto.response.JobCardResponse;
+import java.util.List;
+
+/**
+ * Service interface for hydrating job listing cards. Shared by the database-backed listings and the
+ * Elasticsearch-backed search, which both resolve an ordered page of job ids first.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+public interface JobCardService {
+
+  List<JobCardResponse> getJobCards(List<Long> orderedIds);
+}
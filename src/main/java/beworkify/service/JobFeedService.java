@@ -0,0 +1,20 @@
+package beworkify.service;
+
+import java.util.List;
+
+/**
+ * Service interface for precomputed personalized job feeds. A feed is a ranked list of job ids per
+ * job seeker, derived from their industry, saved jobs and applications, and kept in Redis so the
+ * homepage does not query the database on every view.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+public interface JobFeedService {
+
+  List<Long> getFeed(Long userId);
+
+  void refresh(Long userId);
+
+  void refreshActiveFeeds();
+}
@@ -3,7 +3,9 @@ package beworkify.service;
 import beworkify.dto.request.JobRequest;
 import beworkify.dto.response.*;
 import beworkify.entity.Job;
+import beworkify.enumeration.CountMode;
 import beworkify.enumeration.JobStatus;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -16,6 +18,8 @@ import java.util.List;
 public interface JobService {
   JobResponse create(JobRequest request);
 
+  BulkJobCreateResponse bulkCreate(Iterator<JobRequest> requests);
+
   JobResponse update(Long id, JobRequest request);
 
   void delete(Long id);
@@ -30,15 +34,23 @@ public interface JobService {
       Long industryId,
       Long provinceId,
       List<String> sorts,
-      String keyword);
+      String keyword,
+      CountMode countMode);
 
-  PageResponse<List<JobResponse>> getAllJobs(
+  PageResponse<List<JobCardResponse>> getAllJobs(
       int pageNumber,
       int pageSize,
       Long industryId,
       Long provinceId,
       List<String> sorts,
-      String keyword);
+      String keyword,
+      CountMode countMode);
+
+  PageResponse<List<JobResponse>> getMyJobsByCursor(
+      String cursor, int pageSize, Long industryId, Long provinceId, String keyword);
+
+  PageResponse<List<JobCardResponse>> getAllJobsByCursor(
+      String cursor, int pageSize, Long industryId, Long provinceId, String keyword);
 
   List<IndustryResponse> getMyCurrentIndustries(Long employerId);
 
@@ -52,12 +64,15 @@ public interface JobService {
 
   void updateStatus(Long id, JobStatus jobStatus);
 
-  PageResponse<List<JobResponse>> getHiringJobs(
-      Long employerId, int pageNumber, int pageSize, List<String> sorts);
+  PageResponse<List<JobCardResponse>> getHiringJobs(
+      Long employerId, int pageNumber, int pageSize, List<String> sorts, CountMode countMode);
+
+  PageResponse<List<JobCardResponse>> getHiringJobsByCursor(
+      Long employerId, String cursor, int pageSize);
 
-  List<JobResponse> getTopAttractiveJobs(Integer limit, Long industryId);
+  List<JobCardResponse> getTopAttractiveJobs(Integer limit, Long industryId);
 
-  List<JobResponse> getPersonalizedJobs(Integer limit, Long industryId);
+  List<JobCardResponse> getPersonalizedJobs(Integer limit, Long industryId);
 
-  List<JobResponse> getPersonalizedJobsForCaller(Integer limit);
+  List<JobCardResponse> getPersonalizedJobsForCaller(Integer limit);
 }
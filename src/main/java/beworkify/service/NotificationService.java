@@ -4,6 +4,7 @@ import beworkify.dto.response.NotificationResponse;
 import beworkify.dto.response.PageResponse;
 import beworkify.entity.Employer;
 import beworkify.entity.User;
+import beworkify.enumeration.CountMode;
 import java.util.List;
 
 /**
@@ -23,6 +24,15 @@ public interface NotificationService {
       Long jobId,
       Long applicationId);
 
+  void notifyUsers(
+      List<User> users,
+      String title,
+      String content,
+      String type,
+      String link,
+      Long jobId,
+      Long applicationId);
+
   void notifyEmployer(
       Employer employer,
       String title,
@@ -32,7 +42,8 @@ public interface NotificationService {
       Long jobId,
       Long applicationId);
 
-  PageResponse<List<NotificationResponse>> getMyNotifications(int pageNumber, int pageSize);
+  PageResponse<List<NotificationResponse>> getMyNotifications(
+      int pageNumber, int pageSize, CountMode countMode);
 
   void markAsRead(Long id);
 
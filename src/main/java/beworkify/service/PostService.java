@@ -3,6 +3,7 @@ package beworkify.service;
 import beworkify.dto.request.PostRequest;
 import beworkify.dto.response.PageResponse;
 import beworkify.dto.response.PostResponse;
+import beworkify.enumeration.CountMode;
 import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -28,7 +29,8 @@ public interface PostService {
       List<String> sorts,
       String keyword,
       Long categoryId,
-      boolean isPublic);
+      boolean isPublic,
+      CountMode countMode);
 
   PageResponse<List<PostResponse>> getMyPosts(
       int pageNumber,
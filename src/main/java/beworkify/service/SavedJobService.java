@@ -1,6 +1,6 @@
 package beworkify.service;
 
-import beworkify.dto.response.JobResponse;
+import beworkify.dto.response.JobCardResponse;
 import beworkify.dto.response.PageResponse;
 import java.util.List;
 
@@ -17,5 +17,5 @@ public interface SavedJobService {
 
   boolean isSaved(Long jobId);
 
-  PageResponse<List<JobResponse>> getSavedJobs(int pageNumber, int pageSize);
+  PageResponse<List<JobCardResponse>> getSavedJobs(int pageNumber, int pageSize);
 }
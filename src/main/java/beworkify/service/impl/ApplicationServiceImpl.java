@@ -15,15 +15,21 @@ import beworkify.exception.ResourceConflictException;
 import beworkify.exception.ResourceNotFoundException;
 import beworkify.mapper.ApplicationMapper;
 import beworkify.repository.ApplicationRepository;
+import beworkify.repository.JobRepository;
+import beworkify.search.service.JobPopularityService;
 import beworkify.service.ApplicationService;
 import beworkify.service.AzureBlobService;
 import beworkify.service.ConversationService;
+import beworkify.service.JobFeedService;
 import beworkify.service.JobService;
 import beworkify.service.NotificationService;
 import beworkify.service.UserService;
+import beworkify.service.redis.RedisJobRankingService;
 import beworkify.util.AppUtils;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
@@ -53,6 +59,7 @@ public class ApplicationServiceImpl implements ApplicationService {
   private static final int MAX_APPLY_PER_JOB = 3;
 
   private final ApplicationRepository repository;
+  private final JobRepository jobRepository;
   private final ApplicationMapper mapper;
   private final JobService jobService;
   private final AzureBlobService azureBlobService;
@@ -60,6 +67,9 @@ public class ApplicationServiceImpl implements ApplicationService {
   private final MessageSource messageSource;
   private final NotificationService notificationService;
   private final ConversationService conversationService;
+  private final RedisJobRankingService jobRankingService;
+  private final JobPopularityService jobPopularityService;
+  private final JobFeedService jobFeedService;
 
   @Override
   @Transactional
@@ -90,6 +100,10 @@ public class ApplicationServiceImpl implements ApplicationService {
     String uploadedUrl = uploadCv(cv);
     entity.setCvUrl(uploadedUrl);
     Application saved = repository.save(entity);
+    jobRepository.incrementApplicationCount(job.getId());
+    jobRankingService.incrementApplications(job.getId(), industryIdsOf(job), 1);
+    AppUtils.runAfterCommit(() -> jobPopularityService.recordApplication(job.getId(), 1));
+    AppUtils.runAfterCommit(() -> jobFeedService.refresh(userId));
 
     // Automatically create conversation (1 application = 1 conversation)
     conversationService.createOrGetConversation(
@@ -100,9 +114,14 @@ public class ApplicationServiceImpl implements ApplicationService {
   }
 
   @Override
+  @Transactional
   public void deleteById(Long id) {
-    existsById(id);
-    repository.deleteById(id);
+    Application application = findById(id);
+    repository.delete(application);
+    Job job = application.getJob();
+    jobRepository.decrementApplicationCount(job.getId());
+    jobRankingService.incrementApplications(job.getId(), industryIdsOf(job), -1);
+    AppUtils.runAfterCommit(() -> jobPopularityService.recordApplication(job.getId(), -1));
   }
 
   @Override
@@ -228,6 +247,10 @@ public class ApplicationServiceImpl implements ApplicationService {
     entity.setStatus(ApplicationStatus.UNREAD);
     entity.setCvUrl(request.getCvUrl());
     Application saved = repository.save(entity);
+    jobRepository.incrementApplicationCount(job.getId());
+    jobRankingService.incrementApplications(job.getId(), industryIdsOf(job), 1);
+    AppUtils.runAfterCommit(() -> jobPopularityService.recordApplication(job.getId(), 1));
+    AppUtils.runAfterCommit(() -> jobFeedService.refresh(userId));
 
     // Automatically create conversation (1 application = 1 conversation)
     conversationService.createOrGetConversation(
@@ -278,6 +301,12 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
   }
 
+  private Set<Long> industryIdsOf(Job job) {
+    return job.getJobIndustries().stream()
+        .map(ji -> ji.getIndustry().getId())
+        .collect(Collectors.toSet());
+  }
+
   private String uploadCv(MultipartFile cv) {
     if (cv == null || cv.isEmpty()) {
       return null;
@@ -303,14 +332,6 @@ public class ApplicationServiceImpl implements ApplicationService {
     return response;
   }
 
-  private void existsById(Long id) {
-    if (!repository.existsById(id)) {
-      String message =
-          messageSource.getMessage("application.notFound", null, LocaleContextHolder.getLocale());
-      throw new ResourceNotFoundException(message);
-    }
-  }
-
   private void notifyEmployerNewApplication(Application application) {
     try {
       String title = "Ứng viên mới ứng tuyển";
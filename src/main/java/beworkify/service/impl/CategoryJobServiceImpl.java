@@ -11,9 +11,11 @@ import beworkify.exception.ResourceNotFoundException;
 import beworkify.mapper.CategoryJobMapper;
 import beworkify.repository.CategoryJobRepository;
 import beworkify.service.CategoryJobService;
+import beworkify.service.redis.RedisJobStatsService;
 import beworkify.util.AppUtils;
 import beworkify.util.RedisUtils;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,14 +48,12 @@ public class CategoryJobServiceImpl implements CategoryJobService {
   private final CategoryJobMapper mapper;
   private final MessageSource messageSource;
   private final RedisUtils redisUtils;
+  private final RedisJobStatsService jobStatsService;
 
   @Override
   @Transactional
   @Caching(
-      evict = {
-        @CacheEvict(value = "categories_job", key = "'all'"),
-        @CacheEvict(value = "categories_job_count", key = "'industries'")
-      },
+      evict = {@CacheEvict(value = "categories_job", key = "'all'")},
       put = {@CachePut(value = "categories_job", key = "#result.id")})
   public CategoryJobResponse create(CategoryJobRequest request) {
     if (repository.existsByName(request.getName())) {
@@ -73,10 +73,7 @@ public class CategoryJobServiceImpl implements CategoryJobService {
   @Override
   @Transactional
   @Caching(
-      evict = {
-        @CacheEvict(value = "categories_job", key = "'all'"),
-        @CacheEvict(value = "categories_job_count", key = "'industries'")
-      },
+      evict = {@CacheEvict(value = "categories_job", key = "'all'")},
       put = {@CachePut(value = "categories_job", key = "#result.id")})
   public CategoryJobResponse update(Long id, CategoryJobRequest request) {
     CategoryJob entity = findById(id);
@@ -101,8 +98,7 @@ public class CategoryJobServiceImpl implements CategoryJobService {
   @Caching(
       evict = {
         @CacheEvict(value = "categories_job", key = "'all'"),
-        @CacheEvict(value = "categories_job", key = "#id"),
-        @CacheEvict(value = "categories_job_count", key = "'industries'")
+        @CacheEvict(value = "categories_job", key = "#id")
       })
   public void delete(Long id) {
     CategoryJob entity = findById(id);
@@ -121,7 +117,7 @@ public class CategoryJobServiceImpl implements CategoryJobService {
   @Cacheable(
       value = "categories_job",
       key =
-          "@keyGenerator.buildKeyWithPaginationSortsKeyword(#pageNumber, #pageSize, #sorts, #keyword, T(java.util.List).of(\"name\", \"createdAt\", \"updatedAt\"))")
+          "@keyGenerator.withGeneration('categories_job:pn', @keyGenerator.buildKeyWithPaginationSortsKeyword(#pageNumber, #pageSize, #sorts, #keyword, T(java.util.List).of(\"name\", \"createdAt\", \"updatedAt\")))")
   public PageResponse<List<CategoryJobResponse>> getAllWithPaginationAndSort(
       int pageNumber, int pageSize, List<String> sorts, String keyword) {
     String kw = (keyword == null) ? "" : keyword.toLowerCase();
@@ -160,15 +156,14 @@ public class CategoryJobServiceImpl implements CategoryJobService {
   }
 
   @Override
-  @Cacheable(value = "categories_job_count", key = "'industries'")
   public List<CategoryJobResponse> getCategoriesJobWithCountJobIndustry() {
-    List<Object[]> resultQuery = repository.findCategoryJobWithIndustryCount();
+    List<Object[]> resultQuery = repository.findCategoryJobWithIndustries();
+    Map<Long, Long> jobCounts = jobStatsService.getApprovedJobCountsByIndustry();
     Map<Long, CategoryJobResponse> map = new LinkedHashMap<>();
     resultQuery.forEach(
         r -> {
           CategoryJob c = (CategoryJob) r[0];
           Industry i = (Industry) r[1];
-          Long countJob = (Long) r[2];
           map.computeIfAbsent(
               c.getId(),
               id ->
@@ -190,13 +185,19 @@ public class CategoryJobServiceImpl implements CategoryJobService {
                         .name(i.getName())
                         .engName(i.getEngName())
                         .description(i.getDescription())
-                        .jobCount(countJob)
+                        .jobCount(jobCounts.getOrDefault(i.getId(), 0L))
                         .build());
         });
+    map.values()
+        .forEach(
+            c ->
+                c.getIndustries()
+                    .sort(
+                        Comparator.comparingLong(PopularIndustryResponse::getJobCount).reversed()));
     return map.values().stream().toList();
   }
 
   private void evictPaginationCache() {
-    redisUtils.evictCacheByPattern("categories_job:pn:*");
+    redisUtils.bumpGeneration("categories_job:pn");
   }
 }
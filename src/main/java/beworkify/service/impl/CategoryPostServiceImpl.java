@@ -144,7 +144,7 @@ public class CategoryPostServiceImpl implements CategoryPostService {
   @Cacheable(
       value = "categories_post",
       key =
-          "@keyGenerator.buildKeyWithPaginationSortsKeyword(#pageNumber, #pageSize, #sorts, #keyword, T(java.util.List).of(\"name\", \"createdAt\", \"updatedAt\"))")
+          "@keyGenerator.withGeneration('categories_post:pn', @keyGenerator.buildKeyWithPaginationSortsKeyword(#pageNumber, #pageSize, #sorts, #keyword, T(java.util.List).of(\"name\", \"createdAt\", \"updatedAt\")))")
   public PageResponse<List<CategoryPostResponse>> getAllWithPaginationAndSort(
       int pageNumber, int pageSize, List<String> sorts, String keyword) {
     String kw = (keyword == null) ? "" : keyword.toLowerCase();
@@ -171,6 +171,6 @@ public class CategoryPostServiceImpl implements CategoryPostService {
   }
 
   private void evictPaginationCache() {
-    redisUtils.evictCacheByPattern("categories_post:pn:*");
+    redisUtils.bumpGeneration("categories_post:pn");
   }
 }
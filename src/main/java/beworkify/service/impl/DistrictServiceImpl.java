@@ -1,5 +1,6 @@
 package beworkify.service.impl;
 
+import beworkify.cache.ReferenceDataRegistry;
 import beworkify.dto.request.DistrictRequest;
 import beworkify.dto.response.DistrictResponse;
 import beworkify.entity.District;
@@ -11,10 +12,11 @@ import beworkify.repository.DistrictRepository;
 import beworkify.repository.ProvinceRepository;
 import beworkify.service.DistrictService;
 import beworkify.util.AppUtils;
-import beworkify.util.RedisUtils;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
@@ -39,7 +41,8 @@ public class DistrictServiceImpl implements DistrictService {
   private final ProvinceRepository provinceRepository;
   private final DistrictMapper mapper;
   private final MessageSource messageSource;
-  private final RedisUtils redisUtils;
+  private final CacheManager cacheManager;
+  private final ReferenceDataRegistry referenceDataRegistry;
 
   @Override
   @Transactional
@@ -67,6 +70,8 @@ public class DistrictServiceImpl implements DistrictService {
     entity.setProvince(province);
     entity.setDistrictSlug(AppUtils.toSlug(entity.getName()));
     repository.save(entity);
+    referenceDataRegistry.reloadAfterCommit();
+    evictDistrictsOfProvince(province.getId());
     return mapper.toDTO(entity);
   }
 
@@ -96,6 +101,7 @@ public class DistrictServiceImpl implements DistrictService {
       throw new ResourceConflictException(message);
     }
 
+    Long previousProvinceId = entity.getProvince().getId();
     if (request.getProvinceId() != null) {
       Province province =
           provinceRepository
@@ -113,7 +119,9 @@ public class DistrictServiceImpl implements DistrictService {
     mapper.updateEntityFromRequest(request, entity);
     entity.setDistrictSlug(AppUtils.toSlug(entity.getName()));
     repository.save(entity);
-    evictDistrictsByProvincePattern(entity.getProvince().getId());
+    referenceDataRegistry.reloadAfterCommit();
+    evictDistrictsOfProvince(previousProvinceId);
+    evictDistrictsOfProvince(entity.getProvince().getId());
     return mapper.toDTO(entity);
   }
 
@@ -135,8 +143,9 @@ public class DistrictServiceImpl implements DistrictService {
                           "district.notFound", null, LocaleContextHolder.getLocale());
                   return new ResourceNotFoundException(message);
                 });
-    evictDistrictsByProvincePattern(entity.getProvince().getId());
+    evictDistrictsOfProvince(entity.getProvince().getId());
     repository.delete(entity);
+    referenceDataRegistry.reloadAfterCommit();
   }
 
   @Override
@@ -157,6 +166,8 @@ public class DistrictServiceImpl implements DistrictService {
 
   @Override
   public District findDistrictById(Long id) {
+    District district = referenceDataRegistry.getDistrict(id);
+    if (district != null) return district;
     return repository
         .findById(id)
         .orElseThrow(
@@ -184,7 +195,16 @@ public class DistrictServiceImpl implements DistrictService {
         .collect(Collectors.toList());
   }
 
-  private void evictDistrictsByProvincePattern(Long provinceId) {
-    redisUtils.evictCacheByPattern("districts:p:" + provinceId + "*");
+  /**
+   * Evicts the district list of a province through the cache abstraction once the change is
+   * committed, so the L1 copy is dropped on every node and the list is not reloaded from stale
+   * data.
+   */
+  private void evictDistrictsOfProvince(Long provinceId) {
+    AppUtils.runAfterCommit(
+        () -> {
+          Cache cache = cacheManager.getCache("districts");
+          if (cache != null) cache.evict("p:" + provinceId);
+        });
   }
 }
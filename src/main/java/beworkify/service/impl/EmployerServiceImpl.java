@@ -6,6 +6,7 @@ import beworkify.dto.response.PageResponse;
 import beworkify.entity.District;
 import beworkify.entity.Employer;
 import beworkify.entity.Province;
+import beworkify.enumeration.CountMode;
 import beworkify.enumeration.ErrorCode;
 import beworkify.enumeration.LevelCompanySize;
 import beworkify.enumeration.StatusUser;
@@ -20,6 +21,7 @@ import beworkify.service.*;
 import beworkify.service.redis.RedisOTPCodeService;
 import beworkify.service.redis.RedisTokenService;
 import beworkify.util.AppUtils;
+import beworkify.util.PageFetcher;
 import beworkify.util.RedisUtils;
 import jakarta.mail.MessagingException;
 import java.io.UnsupportedEncodingException;
@@ -33,9 +35,9 @@ import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.prepost.PostAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -68,6 +70,7 @@ public class EmployerServiceImpl implements EmployerService {
   private final RedisOTPCodeService redisOTPCodeService;
   private final RedisUtils redisUtils;
   private final beworkify.repository.JobRepository jobRepository;
+  private final PageFetcher pageFetcher;
 
   @Override
   public PageResponse<List<EmployerResponse>> getEmployersWithPaginationAndKeywordAndSorts(
@@ -77,7 +80,8 @@ public class EmployerServiceImpl implements EmployerService {
       String keyword,
       LevelCompanySize companySize,
       Long provinceId,
-      boolean isAdmin) {
+      boolean isAdmin,
+      CountMode countMode) {
     List<String> whiteListFieldSorts =
         List.of(
             "companyName",
@@ -90,9 +94,14 @@ public class EmployerServiceImpl implements EmployerService {
             "district.name");
     Pageable pageable =
         AppUtils.generatePageableWithSort(sorts, whiteListFieldSorts, pageNumber, pageSize);
-    Page<Employer> page =
-        employerRepository.searchEmployers(
-            keyword.toLowerCase(), companySize, provinceId, isAdmin, pageable);
+    String kw = keyword.toLowerCase();
+    Slice<Employer> page =
+        pageFetcher.fetch(
+            countMode,
+            "employers:" + isAdmin + ":" + companySize + ":" + provinceId + ":" + kw,
+            pageable,
+            p -> employerRepository.searchEmployers(kw, companySize, provinceId, isAdmin, p),
+            p -> employerRepository.sliceSearchEmployers(kw, companySize, provinceId, isAdmin, p));
 
     List<Employer> employers = page.getContent();
     List<Long> employerIds = employers.stream().map(Employer::getId).toList();
@@ -115,8 +124,9 @@ public class EmployerServiceImpl implements EmployerService {
     return PageResponse.<List<EmployerResponse>>builder()
         .pageNumber(pageNumber)
         .pageSize(pageSize)
-        .totalPages(page.getTotalPages())
+        .totalPages(PageFetcher.totalPagesOf(page))
         .numberOfElements(page.getNumberOfElements())
+        .hasNext(page.hasNext())
         .items(items)
         .build();
   }
@@ -186,7 +196,7 @@ public class EmployerServiceImpl implements EmployerService {
   @PostAuthorize(
       "hasRole('ADMIN') or returnObject.status == T(beworkify.enumeration.StatusUser).ACTIVE")
   @Override
-  @Cacheable(value = "employers", key = "#id")
+  @Cacheable(value = "employers", key = "#id", sync = true)
   public EmployerResponse getEmployerById(Long id) {
     Employer employer = findEmployerById(id);
     EmployerResponse dto = employerMapper.toDTO(employer);
@@ -437,7 +447,7 @@ public class EmployerServiceImpl implements EmployerService {
   }
 
   @Override
-  @Cacheable(value = "employers_top_hiring", key = "'limit:' + #limit")
+  @Cacheable(value = "employers_top_hiring", key = "'limit:' + #limit", sync = true)
   public List<EmployerResponse> getTopHiringEmployers(int limit) {
     int queryLimit = Math.max(1, limit * 2);
     var rows = jobRepository.findTopEmployerIdsByHiringJobs(PageRequest.of(0, queryLimit));
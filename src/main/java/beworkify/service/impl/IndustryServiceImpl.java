@@ -1,5 +1,6 @@
 package beworkify.service.impl;
 
+import beworkify.cache.ReferenceDataRegistry;
 import beworkify.dto.request.IndustryRequest;
 import beworkify.dto.response.IndustryResponse;
 import beworkify.dto.response.PageResponse;
@@ -12,8 +13,8 @@ import beworkify.repository.IndustryRepository;
 import beworkify.service.CategoryJobService;
 import beworkify.service.IndustryService;
 import beworkify.util.AppUtils;
+import beworkify.util.RedisUtils;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
@@ -24,7 +25,6 @@ import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,7 +43,8 @@ public class IndustryServiceImpl implements IndustryService {
   private final IndustryMapper mapper;
   private final MessageSource messageSource;
   private final CategoryJobService categoryJobService;
-  private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisUtils redisUtils;
+  private final ReferenceDataRegistry referenceDataRegistry;
 
   @Override
   @Transactional
@@ -71,6 +72,7 @@ public class IndustryServiceImpl implements IndustryService {
     Industry entity = mapper.toEntity(request);
     entity.setCategoryJob(categoryJob);
     repository.save(entity);
+    referenceDataRegistry.reloadAfterCommit();
     evictPaginationCache();
     return mapper.toDTO(entity);
   }
@@ -81,7 +83,7 @@ public class IndustryServiceImpl implements IndustryService {
       evict = {@CacheEvict(value = "industries", key = "'all'")},
       put = {@CachePut(value = "industries", key = "#id")})
   public IndustryResponse update(Long id, IndustryRequest request) {
-    Industry entity = findIndustryById(id);
+    Industry entity = loadIndustry(id);
 
     CategoryJob categoryJob = categoryJobService.findById(request.getCategoryJobId());
 
@@ -106,6 +108,7 @@ public class IndustryServiceImpl implements IndustryService {
     mapper.updateEntityFromRequest(request, entity);
     entity.setCategoryJob(categoryJob);
     repository.save(entity);
+    referenceDataRegistry.reloadAfterCommit();
     evictPaginationCache();
     return mapper.toDTO(entity);
   }
@@ -114,12 +117,19 @@ public class IndustryServiceImpl implements IndustryService {
   @Transactional
   @CacheEvict(value = "industries", allEntries = true)
   public void delete(Long id) {
-    Industry entity = findIndustryById(id);
+    Industry entity = loadIndustry(id);
     repository.delete(entity);
+    referenceDataRegistry.reloadAfterCommit();
   }
 
   @Override
   public Industry findIndustryById(Long id) {
+    Industry industry = referenceDataRegistry.getIndustry(id);
+    if (industry != null) return industry;
+    return loadIndustry(id);
+  }
+
+  private Industry loadIndustry(Long id) {
     return repository
         .findById(id)
         .orElseThrow(
@@ -134,7 +144,7 @@ public class IndustryServiceImpl implements IndustryService {
   @Override
   @Cacheable(value = "industries", key = "#id")
   public IndustryResponse getById(Long id) {
-    Industry entity = findIndustryById(id);
+    Industry entity = loadIndustry(id);
     return mapper.toDTO(entity);
   }
 
@@ -142,7 +152,7 @@ public class IndustryServiceImpl implements IndustryService {
   @Cacheable(
       value = "industries",
       key =
-          "@keyGenerator.buildKeyWithPaginationSortsKeywordForIndustries(#pageNumber, #pageSize, #sorts, #keyword, T(java.util.List).of(\"name\", \"engName\", \"createdAt\", \"updatedAt\"), #categoryId)")
+          "@keyGenerator.withGeneration('industries:pn', @keyGenerator.buildKeyWithPaginationSortsKeywordForIndustries(#pageNumber, #pageSize, #sorts, #keyword, T(java.util.List).of(\"name\", \"engName\", \"createdAt\", \"updatedAt\"), #categoryId))")
   public PageResponse<List<IndustryResponse>> getAllWithPaginationAndSort(
       int pageNumber, int pageSize, List<String> sorts, String keyword, Long categoryId) {
     String kw = (keyword == null) ? "" : keyword.toLowerCase();
@@ -169,9 +179,6 @@ public class IndustryServiceImpl implements IndustryService {
   }
 
   private void evictPaginationCache() {
-    Set<String> keys = redisTemplate.keys("industries:pn:*");
-    if (!keys.isEmpty()) {
-      redisTemplate.delete(keys);
-    }
+    redisUtils.bumpGeneration("industries:pn");
   }
 }
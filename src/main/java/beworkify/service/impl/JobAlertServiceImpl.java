@@ -0,0 +1,129 @@
+package beworkify.service.impl;
+
+import beworkify.dto.request.JobAlertRequest;
+import beworkify.dto.response.JobAlertResponse;
+import beworkify.entity.Job;
+import beworkify.entity.JobAlert;
+import beworkify.entity.JobAlertOutbox;
+import beworkify.entity.User;
+import beworkify.enumeration.ErrorCode;
+import beworkify.enumeration.JobStatus;
+import beworkify.exception.AppException;
+import beworkify.mapper.JobAlertMapper;
+import beworkify.repository.JobAlertOutboxRepository;
+import beworkify.repository.JobAlertRepository;
+import beworkify.repository.JobRepository;
+import beworkify.search.service.JobSearchService;
+import beworkify.service.JobAlertService;
+import beworkify.service.NotificationService;
+import beworkify.service.UserService;
+import beworkify.util.AppUtils;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of the JobAlertService interface. Alerts are stored in the database and mirrored
+ * as percolator queries in Elasticsearch. When a job is approved, that single job is percolated
+ * against all alerts and the owners of the matching ones are notified batch by batch, instead of
+ * running every saved search against the index. Percolator changes are queued in the alert outbox
+ * in the same transaction as the alert change and shipped by {@link
+ * beworkify.scheduler.JobAlertOutboxDispatcher}.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobAlertServiceImpl implements JobAlertService {
+
+  private static final int MAX_ALERTS_PER_USER = 10;
+  private static final int FAN_OUT_BATCH_SIZE = 500;
+
+  private final JobAlertRepository repository;
+  private final JobAlertOutboxRepository outboxRepository;
+  private final JobAlertMapper mapper;
+  private final JobRepository jobRepository;
+  private final JobSearchService jobSearchService;
+  private final NotificationService notificationService;
+  private final UserService userService;
+
+  @Override
+  @Transactional
+  public JobAlertResponse create(JobAlertRequest request) {
+    Long userId = AppUtils.getUserIdFromSecurityContext();
+    if (repository.countByUser_Id(userId) >= MAX_ALERTS_PER_USER) {
+      throw new AppException(ErrorCode.JOB_ALERT_LIMIT_EXCEEDED);
+    }
+    JobAlert alert = mapper.toEntity(request);
+    alert.setUser(userService.findUserById(userId));
+    JobAlert saved = repository.save(alert);
+    outboxRepository.save(JobAlertOutbox.builder().alertId(saved.getId()).build());
+    return mapper.toDTO(saved);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<JobAlertResponse> getMyAlerts() {
+    Long userId = AppUtils.getUserIdFromSecurityContext();
+    return mapper.toDTOs(repository.findByUser_IdOrderByCreatedAtDesc(userId));
+  }
+
+  @Override
+  @Transactional
+  public void delete(Long id) {
+    Long userId = AppUtils.getUserIdFromSecurityContext();
+    JobAlert alert =
+        repository
+            .findByIdAndUser_Id(id, userId)
+            .orElseThrow(() -> new AppException(ErrorCode.JOB_ALERT_NOT_FOUND));
+    repository.delete(alert);
+    outboxRepository.save(JobAlertOutbox.builder().alertId(id).build());
+  }
+
+  @Override
+  @Async
+  public void notifyMatchingAlerts(Long jobId) {
+    List<Job> jobs = jobRepository.fetchJobsByIds(List.of(jobId));
+    if (jobs.isEmpty() || jobs.get(0).getStatus() != JobStatus.APPROVED) return;
+    Job job = jobs.get(0);
+
+    String title = "Việc làm mới phù hợp với bạn";
+    String content =
+        String.format(
+            "Công việc %s tại %s phù hợp với thông báo việc làm của bạn.",
+            job.getJobTitle(), job.getCompanyName());
+    String link = "/jobs/" + job.getId();
+
+    Set<Long> notifiedUserIds = new HashSet<>();
+    Long afterAlertId = null;
+    int matched = 0;
+    try {
+      while (true) {
+        List<Long> alertIds =
+            jobSearchService.percolateAlerts(job, afterAlertId, FAN_OUT_BATCH_SIZE);
+        if (alertIds.isEmpty()) break;
+        matched += alertIds.size();
+        List<User> users =
+            repository.findUsersByAlertIds(alertIds).stream()
+                .filter(user -> notifiedUserIds.add(user.getId()))
+                .toList();
+        if (!users.isEmpty()) {
+          notificationService.notifyUsers(users, title, content, "JOB_ALERT", link, jobId, null);
+        }
+        if (alertIds.size() < FAN_OUT_BATCH_SIZE) break;
+        afterAlertId = alertIds.get(alertIds.size() - 1);
+      }
+      log.info(
+          "Job {} matched {} alerts, notified {} users", jobId, matched, notifiedUserIds.size());
+    } catch (Exception e) {
+      log.error("Failed to dispatch job alerts for job {}", jobId, e);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package beworkify.service.impl;
+
+import beworkify.dto.db.JobCardRow;
+import beworkify.dto.response.JobCardResponse;
+import beworkify.dto.response.LocationResponse;
+import beworkify.mapper.DistrictMapper;
+import beworkify.mapper.IndustryMapper;
+import beworkify.mapper.JobMapper;
+import beworkify.mapper.ProvinceMapper;
+import beworkify.repository.JobRepository;
+import beworkify.service.DistrictService;
+import beworkify.service.IndustryService;
+import beworkify.service.JobCardService;
+import beworkify.service.ProvinceService;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the JobCardService interface. Hydrates a page of listing cards with a fixed
+ * number of queries, whatever the page size.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class JobCardServiceImpl implements JobCardService {
+
+  private final JobRepository jobRepository;
+  private final JobMapper mapper;
+  private final ProvinceService provinceService;
+  private final DistrictService districtService;
+  private final IndustryService industryService;
+  private final ProvinceMapper provinceMapper;
+  private final DistrictMapper districtMapper;
+  private final IndustryMapper industryMapper;
+
+  /**
+   * Builds listing cards from a projection of the job row and its author, then attaches locations
+   * and industries from two id lookups resolved against the reference data, instead of loading full
+   * job entity graphs. Cards come back in the order of {@code orderedIds}; ids without a row are
+   * dropped.
+   */
+  @Override
+  public List<JobCardResponse> getJobCards(List<Long> orderedIds) {
+    if (orderedIds.isEmpty()) return List.of();
+    Map<Long, JobCardResponse> cardById = new HashMap<>();
+    for (JobCardRow row : jobRepository.findJobCardsByIds(orderedIds)) {
+      JobCardResponse card = mapper.toCardDTO(row);
+      card.setJobLocations(new HashSet<>());
+      card.setIndustries(new HashSet<>());
+      cardById.put(card.getId(), card);
+    }
+    if (cardById.isEmpty()) return List.of();
+    List<Long> ids = new ArrayList<>(cardById.keySet());
+    for (Object[] row : jobRepository.findLocationRowsByJobIds(ids)) {
+      JobCardResponse card = cardById.get((Long) row[0]);
+      if (card == null) continue;
+      card.getJobLocations()
+          .add(
+              LocationResponse.builder()
+                  .id((Long) row[1])
+                  .province(provinceMapper.toDTO(provinceService.findProvinceById((Long) row[2])))
+                  .district(districtMapper.toDTO(districtService.findDistrictById((Long) row[3])))
+                  .detailAddress((String) row[4])
+                  .build());
+    }
+    for (Object[] row : jobRepository.findIndustryRowsByJobIds(ids)) {
+      JobCardResponse card = cardById.get((Long) row[0]);
+      if (card == null) continue;
+      card.getIndustries()
+          .add(industryMapper.toDTO(industryService.findIndustryById((Long) row[1])));
+    }
+    return orderedIds.stream().map(cardById::get).filter(Objects::nonNull).toList();
+  }
+}
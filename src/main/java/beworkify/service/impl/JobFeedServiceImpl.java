@@ -0,0 +1,152 @@
+package beworkify.service.impl;
+
+import beworkify.repository.ApplicationRepository;
+import beworkify.repository.JobRepository;
+import beworkify.repository.SavedJobRepository;
+import beworkify.repository.UserRepository;
+import beworkify.service.JobFeedService;
+import beworkify.service.redis.RedisJobRankingService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the JobFeedService interface. Scores industries by the caller's affinity
+ * (profile industry, then industries of saved and applied jobs), merges the top of each industry's
+ * attractive job ranking weighted by that affinity and stores the result as a comma separated id
+ * list. Feeds of users seen within the last week are refreshed periodically; other feeds simply
+ * expire.
+ *
+ * <p>The periodic sweep runs on the node that takes the sweep lease, which is kept until it expires
+ * so the other nodes skip the same tick. Each feed is refreshed asynchronously through the proxy.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobFeedServiceImpl implements JobFeedService {
+
+  private static final String FEED_KEY_PREFIX = "feed:jobs:user:";
+  private static final String ACTIVE_USERS_KEY = "feed:jobs:active";
+  private static final String SWEEP_LEASE_KEY = "feed:jobs:sweep";
+  private static final Duration SWEEP_LEASE_TTL = Duration.ofMinutes(10);
+  private static final Duration FEED_TTL = Duration.ofDays(1);
+  private static final Duration ACTIVE_WINDOW = Duration.ofDays(7);
+  private static final int FEED_SIZE = 50;
+  private static final int MAX_FEED_INDUSTRIES = 3;
+  private static final double PROFILE_INDUSTRY_WEIGHT = 3;
+  private static final double SAVED_JOB_INDUSTRY_WEIGHT = 2;
+  private static final double APPLIED_JOB_INDUSTRY_WEIGHT = 1;
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final UserRepository userRepository;
+  private final SavedJobRepository savedJobRepository;
+  private final ApplicationRepository applicationRepository;
+  private final JobRepository jobRepository;
+  private final RedisJobRankingService jobRankingService;
+
+  @Autowired @Lazy private JobFeedService self;
+
+  @Override
+  public List<Long> getFeed(Long userId) {
+    stringRedisTemplate
+        .opsForZSet()
+        .add(ACTIVE_USERS_KEY, userId.toString(), Instant.now().getEpochSecond());
+    String feed = stringRedisTemplate.opsForValue().get(FEED_KEY_PREFIX + userId);
+    if (feed == null) return null;
+    if (feed.isEmpty()) return List.of();
+    return Arrays.stream(feed.split(",")).map(Long::valueOf).toList();
+  }
+
+  @Override
+  @Async
+  public void refresh(Long userId) {
+    try {
+      List<Long> feed = computeFeed(userId);
+      String value = feed.stream().map(String::valueOf).collect(Collectors.joining(","));
+      stringRedisTemplate.opsForValue().set(FEED_KEY_PREFIX + userId, value, FEED_TTL);
+    } catch (Exception e) {
+      log.warn("Could not refresh job feed of user {}: {}", userId, e.getMessage());
+    }
+  }
+
+  @Override
+  public void refreshActiveFeeds() {
+    if (!Boolean.TRUE.equals(
+        stringRedisTemplate
+            .opsForValue()
+            .setIfAbsent(SWEEP_LEASE_KEY, UUID.randomUUID().toString(), SWEEP_LEASE_TTL))) {
+      log.info("Job feeds are being refreshed by another node, skipping");
+      return;
+    }
+    long activeSince = Instant.now().minus(ACTIVE_WINDOW).getEpochSecond();
+    stringRedisTemplate.opsForZSet().removeRangeByScore(ACTIVE_USERS_KEY, 0, activeSince);
+    Set<String> userIds =
+        stringRedisTemplate
+            .opsForZSet()
+            .rangeByScore(ACTIVE_USERS_KEY, activeSince, Double.MAX_VALUE);
+    if (userIds == null) return;
+    userIds.forEach(id -> self.refresh(Long.valueOf(id)));
+    log.info("Scheduled job feed refresh of {} active users", userIds.size());
+  }
+
+  private List<Long> computeFeed(Long userId) {
+    Map<Long, Double> affinity = new HashMap<>();
+    userRepository
+        .findIndustryIdByUserId(userId)
+        .ifPresent(id -> affinity.merge(id, PROFILE_INDUSTRY_WEIGHT, Double::sum));
+    savedJobRepository
+        .countIndustriesByUserId(userId)
+        .forEach(
+            r -> affinity.merge((Long) r[0], SAVED_JOB_INDUSTRY_WEIGHT * (Long) r[1], Double::sum));
+    applicationRepository
+        .countIndustriesByUserId(userId)
+        .forEach(
+            r ->
+                affinity.merge(
+                    (Long) r[0], APPLIED_JOB_INDUSTRY_WEIGHT * (Long) r[1], Double::sum));
+    if (affinity.isEmpty()) return List.of();
+
+    Set<Long> appliedJobIds = new HashSet<>(applicationRepository.findJobIdsByUserId(userId));
+    boolean rankingReady = jobRankingService.isReady();
+    Map<Long, Double> scores = new HashMap<>();
+    affinity.entrySet().stream()
+        .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+        .limit(MAX_FEED_INDUSTRIES)
+        .forEach(
+            e -> {
+              List<Long> jobIds =
+                  rankingReady
+                      ? jobRankingService.getTopJobIds(e.getKey(), FEED_SIZE)
+                      : jobRepository.findPersonalizedJobIdsByIndustry(
+                          e.getKey(), PageRequest.of(0, FEED_SIZE));
+              for (int position = 0; position < jobIds.size(); position++) {
+                Long jobId = jobIds.get(position);
+                if (appliedJobIds.contains(jobId)) continue;
+                scores.merge(jobId, e.getValue() / (position + 1), Double::sum);
+              }
+            });
+    return scores.entrySet().stream()
+        .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+        .limit(FEED_SIZE)
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+}
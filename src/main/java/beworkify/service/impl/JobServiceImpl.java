@@ -4,30 +4,45 @@ import beworkify.dto.request.JobRequest;
 import beworkify.dto.request.LocationRequest;
 import beworkify.dto.response.*;
 import beworkify.entity.*;
+import beworkify.enumeration.CountMode;
 import beworkify.enumeration.JobStatus;
 import beworkify.exception.ResourceNotFoundException;
 import beworkify.mapper.IndustryMapper;
 import beworkify.mapper.JobMapper;
 import beworkify.mapper.ProvinceMapper;
 import beworkify.repository.*;
+import beworkify.search.service.JobPopularityService;
 import beworkify.search.service.JobSearchService;
 import beworkify.service.DistrictService;
 import beworkify.service.IndustryService;
+import beworkify.service.JobAlertService;
+import beworkify.service.JobCardService;
+import beworkify.service.JobFeedService;
 import beworkify.service.JobService;
 import beworkify.service.NotificationService;
 import beworkify.service.ProvinceService;
+import beworkify.service.redis.RedisJobRankingService;
+import beworkify.service.redis.RedisJobStatsService;
 import beworkify.util.AppUtils;
+import beworkify.util.CursorUtils;
+import beworkify.util.PageFetcher;
 import beworkify.util.RedisUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PostAuthorize;
 import org.springframework.security.core.Authentication;
@@ -35,6 +50,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Implementation of the JobService interface. Handles business logic for job postings, including
@@ -60,9 +76,25 @@ public class JobServiceImpl implements JobService {
   private final IndustryMapper industryMapper;
   private final JobSearchService jobSearchService;
   private final RedisUtils redisUtils;
-  private final ApplicationRepository applicationRepository;
   private final NotificationService notificationService;
   private final beworkify.service.UserService userService;
+  private final RedisJobStatsService jobStatsService;
+  private final RedisJobRankingService jobRankingService;
+  private final JobFeedService jobFeedService;
+  private final ProvinceRepository provinceRepository;
+  private final DistrictRepository districtRepository;
+  private final IndustryRepository industryRepository;
+  private final Validator validator;
+  private final TransactionTemplate transactionTemplate;
+  private final PageFetcher pageFetcher;
+  private final JobSearchOutboxRepository jobSearchOutboxRepository;
+  private final JobCardService jobCardService;
+  private final JobAlertService jobAlertService;
+  private final JobPopularityService jobPopularityService;
+
+  private static final int SEARCH_MAX_RESULT_WINDOW = 10_000;
+  private static final int BULK_CHUNK_SIZE = 100;
+  private static final int BULK_MAX_JOBS = 1_000;
 
   @Override
   @Transactional
@@ -87,18 +119,60 @@ public class JobServiceImpl implements JobService {
     entity.setAuthor(employerRepository.findByEmail(emailAuthor).get());
     entity = jobRepository.save(entity);
 
-    jobSearchService.index(entity);
+    enqueueSearchSync(entity.getId());
     JobResponse response = mapper.toDTO(entity);
-    evictCacheByPattern("jobs:pn:*");
-    evictCacheByPattern("jobs:popular:*");
+    bumpCacheGeneration("jobs:pn");
     return response;
   }
 
+  @Override
+  public BulkJobCreateResponse bulkCreate(Iterator<JobRequest> requests) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    String emailAuthor = ((UserDetails) authentication.getPrincipal()).getUsername();
+    Employer author = employerRepository.findByEmail(emailAuthor).get();
+    List<Long> jobIds = new ArrayList<>();
+    List<BulkJobCreateResponse.ItemError> errors = new ArrayList<>();
+    List<JobRequest> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+    int received = 0;
+    while (true) {
+      JobRequest request;
+      try {
+        if (!requests.hasNext()) break;
+        request = requests.next();
+      } catch (RuntimeException e) {
+        errors.add(bulkError(received, "job.bulk.invalid.payload"));
+        break;
+      }
+      if (received == BULK_MAX_JOBS) {
+        errors.add(bulkError(received, "job.bulk.limit.exceeded"));
+        break;
+      }
+      chunk.add(request);
+      received++;
+      if (chunk.size() == BULK_CHUNK_SIZE) {
+        createChunk(chunk, received - chunk.size(), author, jobIds, errors);
+        chunk.clear();
+      }
+    }
+    if (!chunk.isEmpty()) {
+      createChunk(chunk, received - chunk.size(), author, jobIds, errors);
+    }
+    return BulkJobCreateResponse.builder()
+        .received(received)
+        .created(jobIds.size())
+        .jobIds(jobIds)
+        .errors(errors)
+        .build();
+  }
+
   @Override
   @Transactional
   public JobResponse update(Long id, JobRequest request) {
     Job entity = findJobById(id);
     checkAuthorJob(entity);
+    boolean wasApproved = entity.getStatus() == JobStatus.APPROVED;
+    Set<Long> previousProvinceIds = provinceIdsOf(entity);
+    Set<Long> previousIndustryIds = industryIdsOf(entity);
 
     mapper.updateEntityFromRequest(request, entity);
 
@@ -125,11 +199,18 @@ public class JobServiceImpl implements JobService {
     }
 
     entity = jobRepository.save(entity);
+    if (wasApproved) {
+      jobStatsService.adjustApprovedJobCounts(previousProvinceIds, previousIndustryIds, -1);
+      jobRankingService.removeJob(entity.getId(), previousIndustryIds);
+    }
+    if (entity.getStatus() == JobStatus.APPROVED) {
+      adjustApprovedJobCounts(entity, 1);
+      jobRankingService.rankJob(entity);
+    }
 
-    jobSearchService.index(entity);
+    enqueueSearchSync(entity.getId());
     JobResponse response = mapper.toDTO(entity);
-    evictCacheByPattern("jobs:pn:*");
-    evictCacheByPattern("jobs:popular:*");
+    bumpCacheGeneration("jobs:pn");
     return response;
   }
 
@@ -138,11 +219,14 @@ public class JobServiceImpl implements JobService {
   public void delete(Long id) {
     Job entity = findJobById(id);
     checkAuthorJob(entity);
+    if (entity.getStatus() == JobStatus.APPROVED) {
+      adjustApprovedJobCounts(entity, -1);
+      jobRankingService.removeJob(entity.getId(), industryIdsOf(entity));
+    }
     jobRepository.delete(entity);
 
-    jobSearchService.deleteById(entity.getId());
-    evictCacheByPattern("jobs:pn:*");
-    evictCacheByPattern("jobs:popular:*");
+    enqueueSearchSync(entity.getId());
+    bumpCacheGeneration("jobs:pn");
   }
 
   @Override
@@ -151,10 +235,10 @@ public class JobServiceImpl implements JobService {
       "returnObject.status == T(beworkify.enumeration.JobStatus).APPROVED or hasRole('ADMIN') or hasRole('EMPLOYER') and returnObject.author.email == authentication.principal.username")
   public JobResponse getById(Long id) {
     Job entity = findJobById(id);
-    JobResponse response = mapper.toDTO(entity);
-    Long count = applicationRepository.countByJobId(entity.getId());
-    response.setNumberOfApplications(count != null ? count.intValue() : 0);
-    return response;
+    if (entity.getStatus() == JobStatus.APPROVED) {
+      jobPopularityService.recordView(id);
+    }
+    return mapper.toDTO(entity);
   }
 
   @Override
@@ -165,7 +249,8 @@ public class JobServiceImpl implements JobService {
       Long industryId,
       Long provinceId,
       List<String> sorts,
-      String keyword) {
+      String keyword,
+      CountMode countMode) {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     String email = ((UserDetails) authentication.getPrincipal()).getUsername();
     List<String> WHITE_LIST_SORTS =
@@ -173,13 +258,15 @@ public class JobServiceImpl implements JobService {
     keyword = keyword == null ? "" : keyword.trim();
     Pageable pageable =
         AppUtils.generatePageableWithSort(sorts, WHITE_LIST_SORTS, pageNumber, pageSize);
-    Page<Long> page =
-        jobRepository.findIdsMyJobs(provinceId, industryId, keyword.toLowerCase(), email, pageable);
-    List<Long> orderedIds = page.getContent();
-    List<Job> fetchedJobs = jobRepository.fetchJobsByIds(orderedIds);
-    Map<Long, Job> jobById = fetchedJobs.stream().collect(Collectors.toMap(Job::getId, j -> j));
-    List<Job> jobsOrdered = orderedIds.stream().map(jobById::get).filter(Objects::nonNull).toList();
-    List<JobResponse> items = mapWithApplicationCounts(jobsOrdered, orderedIds);
+    String kw = keyword.toLowerCase();
+    Slice<Long> page =
+        pageFetcher.fetch(
+            countMode,
+            "jobs:mine:" + email + ":" + provinceId + ":" + industryId + ":" + kw,
+            pageable,
+            p -> jobRepository.findIdsMyJobs(provinceId, industryId, kw, email, p),
+            p -> jobRepository.sliceIdsMyJobs(provinceId, industryId, kw, email, p));
+    List<JobResponse> items = getJobResponses(page.getContent());
     return toPageResponse(page, items);
   }
 
@@ -187,19 +274,21 @@ public class JobServiceImpl implements JobService {
   @Cacheable(
       value = "jobs",
       key =
-          "@keyGenerator.buildKeyForHiringJobs(#employerId, #pageNumber, #pageSize, #sorts, T(java.util.List).of('createdAt','updatedAt','expirationDate'))")
-  public PageResponse<List<JobResponse>> getHiringJobs(
-      Long employerId, int pageNumber, int pageSize, List<String> sorts) {
+          "@keyGenerator.withGeneration('jobs:pn', @keyGenerator.buildKeyForHiringJobs(#employerId, #pageNumber, #pageSize, #sorts, T(java.util.List).of('createdAt','updatedAt','expirationDate'))) + ':' + #countMode")
+  public PageResponse<List<JobCardResponse>> getHiringJobs(
+      Long employerId, int pageNumber, int pageSize, List<String> sorts, CountMode countMode) {
 
     List<String> WHITE_LIST_SORTS = Arrays.asList("createdAt", "updatedAt", "expirationDate");
     Pageable pageable =
         AppUtils.generatePageableWithSort(sorts, WHITE_LIST_SORTS, pageNumber, pageSize);
-    Page<Long> page = jobRepository.findIdsHiringJobs(employerId, pageable);
-    List<Long> orderedIds = page.getContent();
-    List<Job> fetchedJobs = jobRepository.fetchJobsByIds(orderedIds);
-    Map<Long, Job> jobById = fetchedJobs.stream().collect(Collectors.toMap(Job::getId, j -> j));
-    List<Job> jobsOrdered = orderedIds.stream().map(jobById::get).filter(Objects::nonNull).toList();
-    List<JobResponse> items = mapWithApplicationCounts(jobsOrdered, orderedIds);
+    Slice<Long> page =
+        pageFetcher.fetch(
+            countMode,
+            "jobs:hiring:" + employerId,
+            pageable,
+            p -> jobRepository.findIdsHiringJobs(employerId, p),
+            p -> jobRepository.sliceIdsHiringJobs(employerId, p));
+    List<JobCardResponse> items = jobCardService.getJobCards(page.getContent());
     return toPageResponse(page, items);
   }
 
@@ -207,29 +296,90 @@ public class JobServiceImpl implements JobService {
   @Cacheable(
       value = "jobs",
       key =
-          "@keyGenerator.buildKeyForGetAllJobs(#pageNumber, #pageSize, #industryId, #provinceId ,#sorts, #keyword, T(java.util.List).of('jobTitle','createdAt','updatedAt','expirationDate','status'))")
-  public PageResponse<List<JobResponse>> getAllJobs(
+          "@keyGenerator.withGeneration('jobs:pn', @keyGenerator.buildKeyForGetAllJobs(#pageNumber, #pageSize, #industryId, #provinceId ,#sorts, #keyword, T(java.util.List).of('jobTitle','createdAt','updatedAt','expirationDate','status'))) + ':' + #countMode")
+  public PageResponse<List<JobCardResponse>> getAllJobs(
       int pageNumber,
       int pageSize,
       Long industryId,
       Long provinceId,
       List<String> sorts,
-      String keyword) {
+      String keyword,
+      CountMode countMode) {
     List<String> WHITE_LIST_SORTS =
         Arrays.asList("jobTitle", "createdAt", "updatedAt", "expirationDate", "status");
     keyword = keyword == null ? "" : keyword.trim();
     Pageable pageable =
         AppUtils.generatePageableWithSort(sorts, WHITE_LIST_SORTS, pageNumber, pageSize);
-    Page<Long> page =
-        jobRepository.findIdsAllJobs(provinceId, industryId, keyword.toLowerCase(), pageable);
-    List<Long> orderedIds = page.getContent();
-    List<Job> fetchedJobs = jobRepository.fetchJobsByIds(orderedIds);
-    Map<Long, Job> jobById = fetchedJobs.stream().collect(Collectors.toMap(Job::getId, j -> j));
-    List<Job> jobsOrdered = orderedIds.stream().map(jobById::get).filter(Objects::nonNull).toList();
-    List<JobResponse> items = mapWithApplicationCounts(jobsOrdered, orderedIds);
+    Slice<Long> page = null;
+    if (shouldSearchAllJobsInIndex(pageable, industryId, provinceId, keyword)) {
+      try {
+        page = jobSearchService.searchIds(keyword, industryId, provinceId, pageable);
+      } catch (Exception e) {
+        log.warn("Search index unavailable for job listing, falling back to database", e);
+      }
+    }
+    if (page == null) {
+      String kw = keyword.toLowerCase();
+      page =
+          pageFetcher.fetch(
+              countMode,
+              "jobs:all:" + provinceId + ":" + industryId + ":" + kw,
+              pageable,
+              p -> jobRepository.findIdsAllJobs(provinceId, industryId, kw, p),
+              p -> jobRepository.sliceIdsAllJobs(provinceId, industryId, kw, p));
+    }
+    List<JobCardResponse> items = jobCardService.getJobCards(page.getContent());
     return toPageResponse(page, items);
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public PageResponse<List<JobResponse>> getMyJobsByCursor(
+      String cursor, int pageSize, Long industryId, Long provinceId, String keyword) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    String email = ((UserDetails) authentication.getPrincipal()).getUsername();
+    CursorUtils.Cursor decoded = CursorUtils.decode(cursor);
+    keyword = keyword == null ? "" : keyword.trim();
+    List<Long> ids =
+        jobRepository.findIdsMyJobsAfterCursor(
+            provinceId,
+            industryId,
+            keyword.toLowerCase(),
+            email,
+            decoded.createdAt(),
+            decoded.id(),
+            PageRequest.of(0, pageSize + 1));
+    return toCursorPageResponse(ids, pageSize, this::getJobResponses);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public PageResponse<List<JobCardResponse>> getAllJobsByCursor(
+      String cursor, int pageSize, Long industryId, Long provinceId, String keyword) {
+    CursorUtils.Cursor decoded = CursorUtils.decode(cursor);
+    keyword = keyword == null ? "" : keyword.trim();
+    List<Long> ids =
+        jobRepository.findIdsAllJobsAfterCursor(
+            provinceId,
+            industryId,
+            keyword.toLowerCase(),
+            decoded.createdAt(),
+            decoded.id(),
+            PageRequest.of(0, pageSize + 1));
+    return toCursorPageResponse(ids, pageSize, jobCardService::getJobCards);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public PageResponse<List<JobCardResponse>> getHiringJobsByCursor(
+      Long employerId, String cursor, int pageSize) {
+    CursorUtils.Cursor decoded = CursorUtils.decode(cursor);
+    List<Long> ids =
+        jobRepository.findIdsHiringJobsAfterCursor(
+            employerId, decoded.createdAt(), decoded.id(), PageRequest.of(0, pageSize + 1));
+    return toCursorPageResponse(ids, pageSize, jobCardService::getJobCards);
+  }
+
   @Override
   public List<IndustryResponse> getMyCurrentIndustries(Long employerId) {
     List<Industry> industries = jobRepository.findEmployerIndustries(employerId);
@@ -243,65 +393,70 @@ public class JobServiceImpl implements JobService {
   }
 
   @Override
-  @Cacheable(value = "jobs", key = "'popular:locations:' + #limit")
   public List<PopularLocationResponse> getPopularLocations(Integer limit) {
-    List<Object[]> results = jobRepository.getPopularProvinces(limit);
-    return results.stream()
+    Map<Long, Long> counts = jobStatsService.getApprovedJobCountsByProvince();
+    return provinceService.getAll().stream()
+        .filter(p -> counts.getOrDefault(p.getId(), 0L) > 0)
+        .sorted(Comparator.comparingLong((ProvinceResponse p) -> counts.get(p.getId())).reversed())
+        .limit(limit)
         .map(
-            r -> {
-              Province province = (Province) r[0];
-              Long jobCount = (Long) r[1];
-              return PopularLocationResponse.builder()
-                  .id(province.getId())
-                  .code(province.getCode())
-                  .name(province.getName())
-                  .engName(province.getEngName())
-                  .provinceSlug(province.getProvinceSlug())
-                  .jobCount(jobCount)
-                  .build();
-            })
+            p ->
+                PopularLocationResponse.builder()
+                    .id(p.getId())
+                    .code(p.getCode())
+                    .name(p.getName())
+                    .engName(p.getEngName())
+                    .provinceSlug(p.getProvinceSlug())
+                    .jobCount(counts.get(p.getId()))
+                    .build())
         .toList();
   }
 
   @Override
-  @Cacheable(value = "jobs", key = "'popular:industries:' + #limit")
   public List<PopularIndustryResponse> getPopularIndustries(Integer limit) {
-    List<Object[]> results = jobRepository.getPopularIndustries(limit);
-    return results.stream()
+    Map<Long, Long> counts = jobStatsService.getApprovedJobCountsByIndustry();
+    return industryService.getAll().stream()
+        .filter(i -> counts.getOrDefault(i.getId(), 0L) > 0)
+        .sorted(Comparator.comparingLong((IndustryResponse i) -> counts.get(i.getId())).reversed())
+        .limit(limit)
         .map(
-            r -> {
-              Industry industry = (Industry) r[0];
-              Long jobCount = (Long) r[1];
-              return PopularIndustryResponse.builder()
-                  .id(industry.getId())
-                  .name(industry.getName())
-                  .engName(industry.getEngName())
-                  .description(industry.getDescription())
-                  .jobCount(jobCount)
-                  .build();
-            })
+            i ->
+                PopularIndustryResponse.builder()
+                    .id(i.getId())
+                    .name(i.getName())
+                    .engName(i.getEngName())
+                    .description(i.getDescription())
+                    .jobCount(counts.get(i.getId()))
+                    .build())
         .toList();
   }
 
   @Override
+  @Transactional
   public void closeJob(Long id) {
     Job entity = findJobById(id);
     checkAuthorJob(entity);
+    JobStatus previousStatus = entity.getStatus();
     entity.setStatus(JobStatus.CLOSED);
     jobRepository.save(entity);
-    jobSearchService.index(entity);
-    evictCacheByPattern("jobs:pn:*");
-    evictCacheByPattern("jobs:popular:*");
+    onStatusTransition(entity, previousStatus);
+    enqueueSearchSync(entity.getId());
+    bumpCacheGeneration("jobs:pn");
   }
 
   @Override
+  @Transactional
   public void updateStatus(Long id, JobStatus jobStatus) {
     Job entity = findJobById(id);
+    JobStatus previousStatus = entity.getStatus();
     entity.setStatus(jobStatus);
     jobRepository.save(entity);
-    jobSearchService.index(entity);
-    evictCacheByPattern("jobs:pn:*");
-    evictCacheByPattern("jobs:popular:*");
+    onStatusTransition(entity, previousStatus);
+    enqueueSearchSync(entity.getId());
+    bumpCacheGeneration("jobs:pn");
+    if (jobStatus == JobStatus.APPROVED && previousStatus != JobStatus.APPROVED) {
+      AppUtils.runAfterCommit(() -> jobAlertService.notifyMatchingAlerts(id));
+    }
 
     try {
       Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -350,6 +505,132 @@ public class JobServiceImpl implements JobService {
             });
   }
 
+  /**
+   * Creates one chunk of a bulk import in a single transaction. Provinces, districts and industries
+   * of the whole chunk are resolved with one IN query each. The jobs are written with JDBC batches
+   * rather than {@code saveAll}, which issues one INSERT per row with IDENTITY ids, and queued in
+   * the search outbox with a single statement; the listing caches are invalidated once after the
+   * chunk commits.
+   */
+  private void createChunk(
+      List<JobRequest> requests,
+      int offset,
+      Employer author,
+      List<Long> jobIds,
+      List<BulkJobCreateResponse.ItemError> errors) {
+    Set<Long> provinceIds = new HashSet<>();
+    Set<Long> districtIds = new HashSet<>();
+    Set<Long> industryIds = new HashSet<>();
+    for (JobRequest request : requests) {
+      List<LocationRequest> locations = new ArrayList<>();
+      if (request.getContactLocation() != null) locations.add(request.getContactLocation());
+      if (request.getJobLocations() != null) locations.addAll(request.getJobLocations());
+      for (LocationRequest location : locations) {
+        if (location == null) continue;
+        if (location.getProvinceId() != null) provinceIds.add(location.getProvinceId());
+        if (location.getDistrictId() != null) districtIds.add(location.getDistrictId());
+      }
+      if (request.getIndustryIds() != null) {
+        request.getIndustryIds().stream().filter(Objects::nonNull).forEach(industryIds::add);
+      }
+    }
+    Map<Long, Province> provinces =
+        provinceRepository.findAllById(provinceIds).stream()
+            .collect(Collectors.toMap(Province::getId, p -> p));
+    Map<Long, District> districts =
+        districtRepository.findAllById(districtIds).stream()
+            .collect(Collectors.toMap(District::getId, d -> d));
+    Map<Long, Industry> industries =
+        industryRepository.findAllById(industryIds).stream()
+            .collect(Collectors.toMap(Industry::getId, i -> i));
+
+    List<Job> entities = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+      JobRequest request = requests.get(i);
+      Set<ConstraintViolation<JobRequest>> violations = validator.validate(request);
+      if (!violations.isEmpty()) {
+        errors.add(
+            BulkJobCreateResponse.ItemError.builder()
+                .index(offset + i)
+                .message(violations.iterator().next().getMessage())
+                .build());
+        continue;
+      }
+      String missingReference = findMissingReference(request, provinces, districts, industries);
+      if (missingReference != null) {
+        errors.add(bulkError(offset + i, missingReference));
+        continue;
+      }
+      Job entity = mapper.toEntity(request);
+      entity.setContactLocation(
+          buildLocation(request.getContactLocation(), provinces, districts, null));
+      entity.setJobLocations(new HashSet<>());
+      request
+          .getJobLocations()
+          .forEach(
+              l -> entity.getJobLocations().add(buildLocation(l, provinces, districts, entity)));
+      entity.setJobIndustries(new HashSet<>());
+      request.getIndustryIds().stream()
+          .distinct()
+          .forEach(
+              id ->
+                  entity
+                      .getJobIndustries()
+                      .add(JobIndustry.builder().job(entity).industry(industries.get(id)).build()));
+      entity.setStatus(JobStatus.PENDING);
+      entity.setAuthor(author);
+      entities.add(entity);
+    }
+    if (entities.isEmpty()) return;
+
+    List<Long> saved =
+        transactionTemplate.execute(
+            status -> {
+              jobRepository.insertAll(entities);
+              List<Long> ids = entities.stream().map(Job::getId).toList();
+              jobSearchOutboxRepository.enqueueJobs(ids);
+              return ids;
+            });
+    jobIds.addAll(saved);
+    bumpCacheGeneration("jobs:pn");
+  }
+
+  private String findMissingReference(
+      JobRequest request,
+      Map<Long, Province> provinces,
+      Map<Long, District> districts,
+      Map<Long, Industry> industries) {
+    List<LocationRequest> locations = new ArrayList<>(request.getJobLocations());
+    locations.add(request.getContactLocation());
+    for (LocationRequest location : locations) {
+      if (location == null) return "job.bulk.location.missing";
+      if (!provinces.containsKey(location.getProvinceId())) return "province.notFound";
+      if (!districts.containsKey(location.getDistrictId())) return "district.notFound";
+    }
+    for (Long industryId : request.getIndustryIds()) {
+      if (!industries.containsKey(industryId)) return "industry.notFound";
+    }
+    return null;
+  }
+
+  private Location buildLocation(
+      LocationRequest request,
+      Map<Long, Province> provinces,
+      Map<Long, District> districts,
+      Job job) {
+    return Location.builder()
+        .province(provinces.get(request.getProvinceId()))
+        .district(districts.get(request.getDistrictId()))
+        .detailAddress(request.getDetailAddress())
+        .job(job)
+        .build();
+  }
+
+  private BulkJobCreateResponse.ItemError bulkError(int index, String messageKey) {
+    String message = messageSource.getMessage(messageKey, null, LocaleContextHolder.getLocale());
+    return BulkJobCreateResponse.ItemError.builder().index(index).message(message).build();
+  }
+
   private Location createLocationFromRequest(LocationRequest request) {
     Province province = provinceService.findProvinceById(request.getProvinceId());
 
@@ -421,75 +702,197 @@ public class JobServiceImpl implements JobService {
     }
   }
 
-  private PageResponse<List<JobResponse>> toPageResponse(Page<Long> page, List<JobResponse> items) {
+  private <T> PageResponse<List<T>> toPageResponse(Slice<Long> page, List<T> items) {
 
-    return PageResponse.<List<JobResponse>>builder()
+    return PageResponse.<List<T>>builder()
         .pageNumber(page.getNumber() + 1)
         .pageSize(page.getSize())
-        .totalPages(page.getTotalPages())
+        .totalPages(PageFetcher.totalPagesOf(page))
         .numberOfElements(page.getNumberOfElements())
+        .hasNext(page.hasNext())
         .items(items)
         .build();
   }
 
-  private void evictCacheByPattern(String pattern) {
-    redisUtils.evictCacheByPattern(pattern);
+  /**
+   * Filtered admin listings are answered by Elasticsearch, which only returns the page of ids to
+   * hydrate. Unfiltered listings, status sorting (ordinal in the database, name in the index) and
+   * pages beyond the index result window stay on the database.
+   */
+  private boolean shouldSearchAllJobsInIndex(
+      Pageable pageable, Long industryId, Long provinceId, String keyword) {
+    boolean hasFilter = !keyword.isEmpty() || industryId != null || provinceId != null;
+    if (!hasFilter) return false;
+    if (pageable.getSort().getOrderFor("status") != null) return false;
+    return pageable.getOffset() + pageable.getPageSize() <= SEARCH_MAX_RESULT_WINDOW;
+  }
+
+  private <T extends BaseResponse> PageResponse<List<T>> toCursorPageResponse(
+      List<Long> ids, int pageSize, Function<List<Long>, List<T>> hydrate) {
+    boolean hasNext = ids.size() > pageSize;
+    List<Long> orderedIds = hasNext ? ids.subList(0, pageSize) : ids;
+    List<T> items = hydrate.apply(orderedIds);
+    String nextCursor = null;
+    if (hasNext) {
+      // The cursor points at the last id of the page, which may be missing from the hydrated items
+      Long lastId = orderedIds.get(orderedIds.size() - 1);
+      LocalDateTime lastCreatedAt =
+          items.stream()
+              .filter(item -> lastId.equals(item.getId()))
+              .map(BaseResponse::getCreatedAt)
+              .findFirst()
+              .orElseGet(() -> jobRepository.findCreatedAtById(lastId));
+      nextCursor = CursorUtils.encode(lastCreatedAt, lastId);
+    }
+    return PageResponse.<List<T>>builder()
+        .pageSize(pageSize)
+        .numberOfElements(items.size())
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .items(items)
+        .build();
+  }
+
+  private List<JobResponse> getJobResponses(List<Long> orderedIds) {
+    if (orderedIds.isEmpty()) return List.of();
+    List<Job> fetchedJobs = jobRepository.fetchJobsByIds(orderedIds);
+    Map<Long, Job> jobById = fetchedJobs.stream().collect(Collectors.toMap(Job::getId, j -> j));
+    List<Job> jobsOrdered = orderedIds.stream().map(jobById::get).filter(Objects::nonNull).toList();
+    return mapper.toDTOs(jobsOrdered);
+  }
+
+  /**
+   * Records the change in the search outbox within the current transaction. The outbox dispatcher
+   * ships it to Elasticsearch after commit, so writes never wait on the search index.
+   */
+  private void enqueueSearchSync(Long jobId) {
+    jobSearchOutboxRepository.save(JobSearchOutbox.builder().jobId(jobId).build());
+  }
+
+  /**
+   * Bumps the generation once the transaction commits; a reader running before the commit would
+   * otherwise cache the old rows under the new generation.
+   */
+  private void bumpCacheGeneration(String namespace) {
+    AppUtils.runAfterCommit(
+        () -> {
+          try {
+            redisUtils.bumpGeneration(namespace);
+          } catch (Exception e) {
+            log.warn("Could not invalidate cache namespace {}: {}", namespace, e.getMessage());
+          }
+        });
+  }
+
+  private void onStatusTransition(Job entity, JobStatus previousStatus) {
+    boolean wasApproved = previousStatus == JobStatus.APPROVED;
+    boolean isApproved = entity.getStatus() == JobStatus.APPROVED;
+    if (wasApproved == isApproved) return;
+    adjustApprovedJobCounts(entity, isApproved ? 1 : -1);
+    if (isApproved) {
+      jobRankingService.rankJob(entity);
+    } else {
+      jobRankingService.removeJob(entity.getId(), industryIdsOf(entity));
+    }
+  }
+
+  private void adjustApprovedJobCounts(Job entity, long delta) {
+    jobStatsService.adjustApprovedJobCounts(provinceIdsOf(entity), industryIdsOf(entity), delta);
+  }
+
+  private Set<Long> provinceIdsOf(Job entity) {
+    if (entity.getJobLocations() == null) return Set.of();
+    return entity.getJobLocations().stream()
+        .map(Location::getProvince)
+        .filter(Objects::nonNull)
+        .map(Province::getId)
+        .collect(Collectors.toSet());
   }
 
-  private List<JobResponse> mapWithApplicationCounts(List<Job> jobsOrdered, List<Long> orderedIds) {
-    List<JobResponse> items = mapper.toDTOs(jobsOrdered);
-    if (orderedIds == null || orderedIds.isEmpty()) return items;
-    var rows = applicationRepository.countByJobIds(orderedIds);
-    Map<Long, Long> countMap =
-        rows.stream().collect(Collectors.toMap(r -> (Long) r[0], r -> (Long) r[1]));
-    items.forEach(
-        dto -> dto.setNumberOfApplications(countMap.getOrDefault(dto.getId(), 0L).intValue()));
-    return items;
+  private Set<Long> industryIdsOf(Job entity) {
+    if (entity.getJobIndustries() == null) return Set.of();
+    return entity.getJobIndustries().stream()
+        .map(JobIndustry::getIndustry)
+        .filter(Objects::nonNull)
+        .map(Industry::getId)
+        .collect(Collectors.toSet());
   }
 
   @Override
-  @Cacheable(value = "jobs_top_attractive", key = "'limit:' + #limit + 'industryId:' + #industryId")
-  public List<JobResponse> getTopAttractiveJobs(Integer limit, Long industryId) {
+  public List<JobCardResponse> getTopAttractiveJobs(Integer limit, Long industryId) {
     int size = (limit == null || limit < 1) ? 10 : limit;
-    var rows = jobRepository.findTopAttractiveJobIds(industryId, PageRequest.of(0, size));
-    List<Long> orderedIds = rows.stream().map(r -> (Long) r[0]).toList();
-    if (orderedIds.isEmpty()) return List.of();
-    Map<Long, Long> countMap =
-        rows.stream().collect(Collectors.toMap(r -> (Long) r[0], r -> (Long) r[1]));
-    List<Job> fetched = jobRepository.fetchJobsByIds(orderedIds);
-    Map<Long, Job> byId = fetched.stream().collect(Collectors.toMap(Job::getId, j -> j));
-    List<Job> jobsOrdered = orderedIds.stream().map(byId::get).filter(Objects::nonNull).toList();
-    List<JobResponse> items = mapper.toDTOs(jobsOrdered);
-    items.forEach(
-        dto -> dto.setNumberOfApplications(countMap.getOrDefault(dto.getId(), 0L).intValue()));
-    return items;
+    try {
+      if (jobRankingService.isReady()) {
+        return getTopAttractiveJobsFromRanking(size, industryId);
+      }
+    } catch (Exception e) {
+      log.warn("Job ranking unavailable, falling back to database", e);
+    }
+    List<Long> orderedIds =
+        jobRepository.findTopAttractiveJobIds(industryId, PageRequest.of(0, size));
+    return jobCardService.getJobCards(orderedIds);
+  }
+
+  /**
+   * Reads the ranking with some headroom and drops entries that are no longer approved or have
+   * expired since the last rebuild, removing them from the ranking on the way.
+   */
+  private List<JobCardResponse> getTopAttractiveJobsFromRanking(int size, Long industryId) {
+    List<Long> candidateIds = jobRankingService.getTopJobIds(industryId, size * 2);
+    Set<Long> industryIds = industryId == null ? Set.of() : Set.of(industryId);
+    return fetchOpenJobs(candidateIds, size, id -> jobRankingService.removeJob(id, industryIds));
+  }
+
+  /**
+   * Hydrates precomputed job ids in order, keeping at most {@code size} jobs that are still
+   * approved and not expired and reporting the others to {@code onStale}.
+   */
+  private List<JobCardResponse> fetchOpenJobs(
+      List<Long> candidateIds, int size, Consumer<Long> onStale) {
+    if (candidateIds.isEmpty()) return List.of();
+    Map<Long, JobCardResponse> byId =
+        jobCardService.getJobCards(candidateIds).stream()
+            .collect(Collectors.toMap(JobCardResponse::getId, j -> j));
+    LocalDate today = LocalDate.now();
+    List<JobCardResponse> jobsOrdered = new ArrayList<>();
+    for (Long id : candidateIds) {
+      JobCardResponse job = byId.get(id);
+      boolean open =
+          job != null
+              && job.getStatus() == JobStatus.APPROVED
+              && (job.getExpirationDate() == null || !job.getExpirationDate().isBefore(today));
+      if (!open) {
+        onStale.accept(id);
+      } else if (jobsOrdered.size() < size) {
+        jobsOrdered.add(job);
+      }
+    }
+    return jobsOrdered;
   }
 
   @Override
-  public List<JobResponse> getPersonalizedJobs(Integer limit, Long industryId) {
+  public List<JobCardResponse> getPersonalizedJobs(Integer limit, Long industryId) {
     int size = (limit == null || limit < 1) ? 10 : limit;
-    var rows = jobRepository.findPersonalizedJobIdsByIndustry(industryId, PageRequest.of(0, size));
-    List<Long> orderedIds = rows.stream().map(r -> (Long) r[0]).toList();
+    List<Long> orderedIds =
+        jobRepository.findPersonalizedJobIdsByIndustry(industryId, PageRequest.of(0, size));
     if (orderedIds.isEmpty()) return List.of();
-    Map<Long, Long> countMap =
-        rows.stream().collect(Collectors.toMap(r -> (Long) r[0], r -> (Long) r[1]));
-    List<Job> fetched = jobRepository.fetchJobsByIds(orderedIds);
-    Map<Long, Job> byId = fetched.stream().collect(Collectors.toMap(Job::getId, j -> j));
-    List<Job> jobsOrdered = orderedIds.stream().map(byId::get).filter(Objects::nonNull).toList();
-    List<JobResponse> items = mapper.toDTOs(jobsOrdered);
-    items.forEach(
-        dto -> dto.setNumberOfApplications(countMap.getOrDefault(dto.getId(), 0L).intValue()));
-    return items;
+    return jobCardService.getJobCards(orderedIds);
   }
 
   @Override
-  public List<JobResponse> getPersonalizedJobsForCaller(Integer limit) {
+  public List<JobCardResponse> getPersonalizedJobsForCaller(Integer limit) {
     try {
       var authentication = SecurityContextHolder.getContext().getAuthentication();
       if (AppUtils.isAuthenticated(authentication)
           && (AppUtils.hasRole(authentication, "JOB_SEEKER")
               || AppUtils.hasRole(authentication, "ADMIN"))) {
         Long userId = AppUtils.getUserIdFromSecurityContext();
+        try {
+          List<JobCardResponse> feed = getPersonalizedJobsFromFeed(userId, limit);
+          if (feed != null && !feed.isEmpty()) return feed;
+        } catch (Exception e) {
+          log.warn("Job feed unavailable for user {}, falling back to database", userId, e);
+        }
         try {
           User user = userService.findUserById(userId);
           if (user != null && user.getIndustry() != null) {
@@ -504,4 +907,18 @@ public class JobServiceImpl implements JobService {
     }
     return getTopAttractiveJobs(limit, null);
   }
+
+  /**
+   * Serves the precomputed feed of the caller. A missing feed is computed in the background and the
+   * caller falls back to the live query meanwhile.
+   */
+  private List<JobCardResponse> getPersonalizedJobsFromFeed(Long userId, Integer limit) {
+    int size = (limit == null || limit < 1) ? 10 : limit;
+    List<Long> feed = jobFeedService.getFeed(userId);
+    if (feed == null) {
+      jobFeedService.refresh(userId);
+      return null;
+    }
+    return fetchOpenJobs(feed, size, id -> {});
+  }
 }
@@ -5,18 +5,20 @@ import beworkify.dto.response.PageResponse;
 import beworkify.entity.Employer;
 import beworkify.entity.Notification;
 import beworkify.entity.User;
+import beworkify.enumeration.CountMode;
 import beworkify.exception.ResourceNotFoundException;
 import beworkify.mapper.NotificationMapper;
 import beworkify.repository.NotificationRepository;
 import beworkify.service.NotificationService;
 import beworkify.util.AppUtils;
+import beworkify.util.PageFetcher;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -38,6 +40,7 @@ public class NotificationServiceImpl implements NotificationService {
   private final NotificationMapper mapper;
   private final SimpMessagingTemplate messagingTemplate;
   private final MessageSource messageSource;
+  private final PageFetcher pageFetcher;
 
   @Override
   @Transactional
@@ -65,6 +68,38 @@ public class NotificationServiceImpl implements NotificationService {
     messagingTemplate.convertAndSendToUser("USER:" + user.getEmail(), "/queue/notifications", dto);
   }
 
+  @Override
+  @Transactional
+  public void notifyUsers(
+      List<User> users,
+      String title,
+      String content,
+      String type,
+      String link,
+      Long jobId,
+      Long applicationId) {
+    List<Notification> notifications =
+        users.stream()
+            .map(
+                user ->
+                    Notification.builder()
+                        .recipientUser(user)
+                        .title(title)
+                        .content(content)
+                        .type(type)
+                        .link(link)
+                        .jobId(jobId)
+                        .applicationId(applicationId)
+                        .readFlag(false)
+                        .build())
+            .toList();
+    for (Notification saved : repository.saveAll(notifications)) {
+      NotificationResponse dto = mapper.toDTO(saved);
+      messagingTemplate.convertAndSendToUser(
+          "USER:" + saved.getRecipientUser().getEmail(), "/queue/notifications", dto);
+    }
+  }
+
   @Override
   @Transactional
   public void notifyEmployer(
@@ -94,27 +129,41 @@ public class NotificationServiceImpl implements NotificationService {
 
   @Override
   @Transactional(readOnly = true)
-  public PageResponse<List<NotificationResponse>> getMyNotifications(int pageNumber, int pageSize) {
+  public PageResponse<List<NotificationResponse>> getMyNotifications(
+      int pageNumber, int pageSize, CountMode countMode) {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     Pageable pageable = PageRequest.of(pageNumber - 1, pageSize);
-    Page<Notification> page;
+    Slice<Notification> page;
     if (AppUtils.hasRole(authentication, "EMPLOYER")) {
       Long employerId = AppUtils.getEmployerIdFromSecurityContext();
       Employer employer = new Employer();
       employer.setId(employerId);
-      page = repository.findByRecipientEmployerOrderByCreatedAtDesc(employer, pageable);
+      page =
+          pageFetcher.fetch(
+              countMode,
+              "notifications:employer:" + employerId,
+              pageable,
+              p -> repository.findByRecipientEmployerOrderByCreatedAtDesc(employer, p),
+              p -> repository.findSliceByRecipientEmployerOrderByCreatedAtDesc(employer, p));
     } else {
       Long userId = AppUtils.getUserIdFromSecurityContext();
       User user = new User();
       user.setId(userId);
-      page = repository.findByRecipientUserOrderByCreatedAtDesc(user, pageable);
+      page =
+          pageFetcher.fetch(
+              countMode,
+              "notifications:user:" + userId,
+              pageable,
+              p -> repository.findByRecipientUserOrderByCreatedAtDesc(user, p),
+              p -> repository.findSliceByRecipientUserOrderByCreatedAtDesc(user, p));
     }
     List<NotificationResponse> items = page.getContent().stream().map(mapper::toDTO).toList();
     return PageResponse.<List<NotificationResponse>>builder()
         .pageNumber(pageNumber)
         .pageSize(pageSize)
-        .totalPages(page.getTotalPages())
+        .totalPages(PageFetcher.totalPagesOf(page))
         .numberOfElements(page.getNumberOfElements())
+        .hasNext(page.hasNext())
         .items(items)
         .build();
   }
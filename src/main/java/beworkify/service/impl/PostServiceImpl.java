@@ -9,6 +9,7 @@ import beworkify.entity.CategoryPost;
 import beworkify.entity.Employer;
 import beworkify.entity.Post;
 import beworkify.entity.User;
+import beworkify.enumeration.CountMode;
 import beworkify.enumeration.StatusPost;
 import beworkify.enumeration.UserRole;
 import beworkify.exception.ResourceNotFoundException;
@@ -21,6 +22,7 @@ import beworkify.service.PostService;
 import beworkify.service.UserService;
 import beworkify.util.AppUtils;
 import beworkify.util.HtmlImageProcessor;
+import beworkify.util.PageFetcher;
 import beworkify.util.RedisUtils;
 import beworkify.util.TagUtils;
 import java.util.*;
@@ -35,6 +37,7 @@ import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -62,6 +65,7 @@ public class PostServiceImpl implements PostService {
   private final EmployerService employerService;
   private final MessageSource messageSource;
   private final RedisUtils redisUtils;
+  private final PageFetcher pageFetcher;
 
   @Override
   @Transactional
@@ -129,9 +133,9 @@ public class PostServiceImpl implements PostService {
               .employerSlug(entity.getEmployerAuthor().getEmployerSlug())
               .build());
     }
-    evictCacheByPattern("posts:pn:*");
-    evictCacheByPattern("posts:latest:*");
-    evictCacheByPattern("posts:related:" + entity.getId() + ":*");
+    bumpCacheGeneration("posts:pn");
+    bumpCacheGeneration("posts:latest");
+    bumpCacheGeneration("posts:related");
     return response;
   }
 
@@ -183,9 +187,9 @@ public class PostServiceImpl implements PostService {
     repository.save(entity);
     PostResponse response = mapper.toDTO(entity);
     mapAuthorResponse(response, entity);
-    evictCacheByPattern("posts:pn:*");
-    evictCacheByPattern("posts:latest:*");
-    evictCacheByPattern("posts:related:" + id + ":*");
+    bumpCacheGeneration("posts:pn");
+    bumpCacheGeneration("posts:latest");
+    bumpCacheGeneration("posts:related");
     return response;
   }
 
@@ -196,9 +200,9 @@ public class PostServiceImpl implements PostService {
     Post entity = findPostById(id);
     validateOwner(entity);
     repository.delete(entity);
-    evictCacheByPattern("posts:pn:*");
-    evictCacheByPattern("posts:latest:*");
-    evictCacheByPattern("posts:related:" + id + ":*");
+    bumpCacheGeneration("posts:pn");
+    bumpCacheGeneration("posts:latest");
+    bumpCacheGeneration("posts:related");
   }
 
   @Override
@@ -214,23 +218,37 @@ public class PostServiceImpl implements PostService {
   @Cacheable(
       value = "posts",
       key =
-          "@keyGenerator.buildKeyWithPaginationSortsKeywordForPost(#pageNumber, #pageSize, #sorts, #keyword, T(java.util.List).of('createdAt', 'updatedAt'),#categoryId, #isPublic, #authorId)")
+          "@keyGenerator.withGeneration('posts:pn', @keyGenerator.buildKeyWithPaginationSortsKeywordForPost(#pageNumber, #pageSize, #sorts, #keyword, T(java.util.List).of('createdAt', 'updatedAt'),#categoryId, #isPublic, #authorId)) + ':' + #countMode")
   public PageResponse<List<PostResponse>> getAll(
       int pageNumber,
       int pageSize,
       List<String> sorts,
       String keyword,
       Long categoryId,
-      boolean isPublic) {
+      boolean isPublic,
+      CountMode countMode) {
     String kw = (keyword == null) ? "" : keyword.toLowerCase();
     List<String> whiteListFieldSorts = List.of("createdAt", "updatedAt");
     Pageable pageable =
         AppUtils.generatePageableWithSort(sorts, whiteListFieldSorts, pageNumber, pageSize);
-    Page<Post> page;
+    String countKey = "posts:" + (isPublic ? "public" : "all") + ":" + categoryId + ":" + kw;
+    Slice<Post> page;
     if (!isPublic) {
-      page = repository.searchPosts(kw, categoryId, pageable);
+      page =
+          pageFetcher.fetch(
+              countMode,
+              countKey,
+              pageable,
+              p -> repository.searchPosts(kw, categoryId, p),
+              p -> repository.sliceSearchPosts(kw, categoryId, p));
     } else {
-      page = repository.searchPublicPosts(kw, categoryId, StatusPost.PUBLIC, pageable);
+      page =
+          pageFetcher.fetch(
+              countMode,
+              countKey,
+              pageable,
+              p -> repository.searchPublicPosts(kw, categoryId, StatusPost.PUBLIC, p),
+              p -> repository.sliceSearchPublicPosts(kw, categoryId, StatusPost.PUBLIC, p));
     }
     List<PostResponse> items =
         page.getContent().stream()
@@ -244,14 +262,17 @@ public class PostServiceImpl implements PostService {
     return PageResponse.<List<PostResponse>>builder()
         .pageNumber(pageNumber)
         .pageSize(pageSize)
-        .totalPages(page.getTotalPages())
+        .totalPages(PageFetcher.totalPagesOf(page))
         .numberOfElements(page.getNumberOfElements())
+        .hasNext(page.hasNext())
         .items(items)
         .build();
   }
 
   @Override
-  @Cacheable(value = "posts", key = "'related:' + #postId + ':' + #limit")
+  @Cacheable(
+      value = "posts",
+      key = "@keyGenerator.withGeneration('posts:related', 'related:' + #postId + ':' + #limit)")
   public List<PostResponse> getRelated(Long postId, int limit) {
     Post anchor = findPostById(postId);
 
@@ -333,7 +354,9 @@ public class PostServiceImpl implements PostService {
   }
 
   @Override
-  @Cacheable(value = "posts", key = "'latest:' + #limit")
+  @Cacheable(
+      value = "posts",
+      key = "@keyGenerator.withGeneration('posts:latest', 'latest:' + #limit)")
   public List<PostResponse> getLatestPosts(int limit) {
     Pageable pageable = PageRequest.of(0, Math.min(limit, 50));
     List<Post> posts = repository.findLatestPublicPosts(StatusPost.PUBLIC, pageable);
@@ -396,14 +419,25 @@ public class PostServiceImpl implements PostService {
     repository.save(entity);
     PostResponse response = mapper.toDTO(entity);
     mapAuthorResponse(response, entity);
-    evictCacheByPattern("posts:pn:*");
-    evictCacheByPattern("posts:latest:*");
-    evictCacheByPattern("posts:related:" + id + ":*");
+    bumpCacheGeneration("posts:pn");
+    bumpCacheGeneration("posts:latest");
+    bumpCacheGeneration("posts:related");
     return response;
   }
 
-  private void evictCacheByPattern(String pattern) {
-    redisUtils.evictCacheByPattern(pattern);
+  /**
+   * Bumps the generation once the transaction commits; a reader running before the commit would
+   * otherwise cache the old rows under the new generation.
+   */
+  private void bumpCacheGeneration(String namespace) {
+    AppUtils.runAfterCommit(
+        () -> {
+          try {
+            redisUtils.bumpGeneration(namespace);
+          } catch (Exception e) {
+            log.warn("Could not invalidate cache namespace {}: {}", namespace, e.getMessage());
+          }
+        });
   }
 
   private void mapAuthorResponse(PostResponse response, Post entity) {
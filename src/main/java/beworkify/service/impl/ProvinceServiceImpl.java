@@ -1,5 +1,6 @@
 package beworkify.service.impl;
 
+import beworkify.cache.ReferenceDataRegistry;
 import beworkify.dto.request.ProvinceRequest;
 import beworkify.dto.response.PageResponse;
 import beworkify.dto.response.ProvinceResponse;
@@ -38,6 +39,7 @@ public class ProvinceServiceImpl implements ProvinceService {
   private final ProvinceRepository repository;
   private final ProvinceMapper mapper;
   private final MessageSource messageSource;
+  private final ReferenceDataRegistry referenceDataRegistry;
 
   @Override
   @Transactional
@@ -54,6 +56,7 @@ public class ProvinceServiceImpl implements ProvinceService {
     Province entity = mapper.toEntity(request);
     entity.setProvinceSlug(AppUtils.toSlug(entity.getName()));
     repository.save(entity);
+    referenceDataRegistry.reloadAfterCommit();
     return mapper.toDTO(entity);
   }
 
@@ -86,6 +89,7 @@ public class ProvinceServiceImpl implements ProvinceService {
     mapper.updateEntityFromRequest(request, entity);
     entity.setProvinceSlug(AppUtils.toSlug(entity.getName()));
     repository.save(entity);
+    referenceDataRegistry.reloadAfterCommit();
     return mapper.toDTO(entity);
   }
 
@@ -109,6 +113,7 @@ public class ProvinceServiceImpl implements ProvinceService {
                   return new ResourceNotFoundException(message);
                 });
     repository.delete(entity);
+    referenceDataRegistry.reloadAfterCommit();
   }
 
   @Override
@@ -152,6 +157,8 @@ public class ProvinceServiceImpl implements ProvinceService {
 
   @Override
   public Province findProvinceById(Long id) {
+    Province province = referenceDataRegistry.getProvince(id);
+    if (province != null) return province;
     return repository
         .findById(id)
         .orElseThrow(
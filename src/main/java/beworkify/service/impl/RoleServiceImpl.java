@@ -1,5 +1,6 @@
 package beworkify.service.impl;
 
+import beworkify.cache.ReferenceDataRegistry;
 import beworkify.dto.request.RoleRequest;
 import beworkify.dto.response.RoleResponse;
 import beworkify.entity.Role;
@@ -36,6 +37,7 @@ public class RoleServiceImpl implements RoleService {
   private final RoleRepository roleRepository;
   private final RoleMapper roleMapper;
   private final MessageSource messageSource;
+  private final ReferenceDataRegistry referenceDataRegistry;
 
   @Override
   @CacheEvict(value = "roles", allEntries = true)
@@ -54,6 +56,7 @@ public class RoleServiceImpl implements RoleService {
     Role role = roleMapper.toEntity(request);
     role.setRole(UserRole.getRoleFromName(request.getRole()));
     roleRepository.save(role);
+    referenceDataRegistry.reloadAfterCommit();
 
     return roleMapper.toDTO(role);
   }
@@ -76,6 +79,7 @@ public class RoleServiceImpl implements RoleService {
     roleMapper.updateEntityFromDTO(request, role);
     role.setRole(UserRole.getRoleFromName(request.getRole()));
     roleRepository.save(role);
+    referenceDataRegistry.reloadAfterCommit();
 
     return roleMapper.toDTO(role);
   }
@@ -124,6 +128,7 @@ public class RoleServiceImpl implements RoleService {
 
     Role role = findRoleById(id);
     roleRepository.delete(role);
+    referenceDataRegistry.reloadAfterCommit();
   }
 
   @Override
@@ -143,6 +148,8 @@ public class RoleServiceImpl implements RoleService {
   public Role findRoleByRoleName(String roleName) {
 
     UserRole userRole = UserRole.getRoleFromName(roleName);
+    Role role = referenceDataRegistry.getRole(userRole);
+    if (role != null) return role;
     return roleRepository
         .findByRole(userRole)
         .orElseThrow(
@@ -1,22 +1,20 @@
 package beworkify.service.impl;
 
-import beworkify.dto.response.JobResponse;
+import beworkify.dto.response.JobCardResponse;
 import beworkify.dto.response.PageResponse;
 import beworkify.entity.Job;
 import beworkify.entity.SavedJob;
 import beworkify.entity.User;
-import beworkify.mapper.JobMapper;
-import beworkify.repository.ApplicationRepository;
 import beworkify.repository.JobRepository;
 import beworkify.repository.SavedJobRepository;
+import beworkify.search.service.JobPopularityService;
+import beworkify.service.JobCardService;
+import beworkify.service.JobFeedService;
 import beworkify.service.JobService;
 import beworkify.service.SavedJobService;
 import beworkify.service.UserService;
 import beworkify.util.AppUtils;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -38,10 +36,11 @@ public class SavedJobServiceImpl implements SavedJobService {
 
   private final SavedJobRepository repository;
   private final JobRepository jobRepository;
-  private final ApplicationRepository applicationRepository;
   private final JobService jobService;
+  private final JobCardService jobCardService;
   private final UserService userService;
-  private final JobMapper mapper;
+  private final JobFeedService jobFeedService;
+  private final JobPopularityService jobPopularityService;
 
   @Override
   @Transactional
@@ -60,28 +59,27 @@ public class SavedJobServiceImpl implements SavedJobService {
         .ifPresentOrElse(
             existing -> {
               repository.delete(existing);
+              jobRepository.decrementSaveCount(jobId);
+              AppUtils.runAfterCommit(() -> jobPopularityService.recordSave(jobId, -1));
             },
             () -> {
               SavedJob sj = SavedJob.builder().user(user).job(job).build();
               repository.save(sj);
+              jobRepository.incrementSaveCount(jobId);
+              AppUtils.runAfterCommit(() -> jobPopularityService.recordSave(jobId, 1));
             });
+    AppUtils.runAfterCommit(() -> jobFeedService.refresh(userId));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public PageResponse<List<JobResponse>> getSavedJobs(int pageNumber, int pageSize) {
+  public PageResponse<List<JobCardResponse>> getSavedJobs(int pageNumber, int pageSize) {
     Long userId = AppUtils.getUserIdFromSecurityContext();
 
     Pageable pageable = PageRequest.of(pageNumber - 1, pageSize);
     Page<Long> page = repository.findJobIdsByUserId(userId, pageable);
 
-    List<Long> orderedIds = page.getContent();
-    List<Job> fetchedJobs =
-        orderedIds.isEmpty() ? List.of() : jobRepository.fetchJobsByIds(orderedIds);
-    Map<Long, Job> jobById = fetchedJobs.stream().collect(Collectors.toMap(Job::getId, j -> j));
-    List<Job> jobsOrdered = orderedIds.stream().map(jobById::get).filter(Objects::nonNull).toList();
-
-    List<JobResponse> items = mapWithApplicationCounts(jobsOrdered, orderedIds);
+    List<JobCardResponse> items = jobCardService.getJobCards(page.getContent());
     return toPageResponse(page, items);
   }
 
@@ -96,8 +94,9 @@ public class SavedJobServiceImpl implements SavedJobService {
     return exists;
   }
 
-  private PageResponse<List<JobResponse>> toPageResponse(Page<Long> page, List<JobResponse> items) {
-    return PageResponse.<List<JobResponse>>builder()
+  private PageResponse<List<JobCardResponse>> toPageResponse(
+      Page<Long> page, List<JobCardResponse> items) {
+    return PageResponse.<List<JobCardResponse>>builder()
         .pageNumber(page.getNumber() + 1)
         .pageSize(page.getSize())
         .totalPages(page.getTotalPages())
@@ -105,15 +104,4 @@ public class SavedJobServiceImpl implements SavedJobService {
         .items(items)
         .build();
   }
-
-  private List<JobResponse> mapWithApplicationCounts(List<Job> jobsOrdered, List<Long> orderedIds) {
-    List<JobResponse> items = mapper.toDTOs(jobsOrdered);
-    if (orderedIds == null || orderedIds.isEmpty()) return items;
-    var rows = applicationRepository.countByJobIds(orderedIds);
-    Map<Long, Long> countMap =
-        rows.stream().collect(Collectors.toMap(r -> (Long) r[0], r -> (Long) r[1]));
-    items.forEach(
-        dto -> dto.setNumberOfApplications(countMap.getOrDefault(dto.getId(), 0L).intValue()));
-    return items;
-  }
 }
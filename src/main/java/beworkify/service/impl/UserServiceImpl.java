@@ -61,6 +61,7 @@ public class UserServiceImpl implements UserService {
   private final RedisTokenService redisTokenService;
   private final RedisOTPCodeService redisOTPCodeService;
   private final RedisUtils redisUtils;
+  private final JobFeedService jobFeedService;
 
   @Override
   @Cacheable(value = "users", key = "#id")
@@ -205,6 +206,9 @@ public class UserServiceImpl implements UserService {
     }
     user.setNoPassword(false);
     userRepository.save(user);
+    if (request.getIndustryId() != null) {
+      AppUtils.runAfterCommit(() -> jobFeedService.refresh(user.getId()));
+    }
     UserResponse response = userMapper.toDTO(user);
     response.setRole(user.getRole().getRole());
 
@@ -235,6 +239,9 @@ public class UserServiceImpl implements UserService {
       user.setGender(Gender.getGenderFromName(request.getGender()));
     }
     userRepository.save(user);
+    if (request.getIndustryId() != null) {
+      AppUtils.runAfterCommit(() -> jobFeedService.refresh(user.getId()));
+    }
     UserResponse response = userMapper.toDTO(user);
     response.setRole(user.getRole().getRole());
 
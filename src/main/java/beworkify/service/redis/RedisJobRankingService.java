@@ -0,0 +1,30 @@
+package beworkify.service.redis;
+
+import beworkify.entity.Job;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service interface for the "top attractive jobs" ranking kept in Redis, globally and per industry.
+ * Jobs are ranked by application count and then by recency.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+public interface RedisJobRankingService {
+  void rankJob(Job job);
+
+  void removeJob(Long jobId, Collection<Long> industryIds);
+
+  void incrementApplications(Long jobId, Collection<Long> industryIds, long delta);
+
+  boolean isReady();
+
+  List<Long> getTopJobIds(Long industryId, int limit);
+
+  /**
+   * Rebuilds the ranking from the database. Returns {@code false} without doing anything when
+   * another node is already rebuilding it.
+   */
+  boolean rebuild();
+}
@@ -0,0 +1,26 @@
+package beworkify.service.redis;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface for the approved job counts per province and per industry kept in Redis. The
+ * counts are adjusted incrementally and rebuilt from the database periodically.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+public interface RedisJobStatsService {
+  void adjustApprovedJobCounts(
+      Collection<Long> provinceIds, Collection<Long> industryIds, long delta);
+
+  Map<Long, Long> getApprovedJobCountsByProvince();
+
+  Map<Long, Long> getApprovedJobCountsByIndustry();
+
+  /**
+   * Rebuilds the counters from the database. Returns {@code false} without doing anything when
+   * another node is already rebuilding them.
+   */
+  boolean rebuild();
+}
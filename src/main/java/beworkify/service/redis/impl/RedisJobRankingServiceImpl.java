@@ -0,0 +1,297 @@
+package beworkify.service.redis.impl;
+
+import beworkify.entity.Job;
+import beworkify.entity.JobIndustry;
+import beworkify.repository.JobRepository;
+import beworkify.service.redis.RedisJobRankingService;
+import beworkify.util.AppUtils;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the "top attractive jobs" ranking as Redis sorted sets, one global and one per
+ * industry. The score packs the application count into the high bits and the creation time (epoch
+ * seconds) into the low 32 bits, so a single ZREVRANGE orders by applications and then by recency.
+ * Entries are written after the surrounding transaction commits and the sets are rebuilt from the
+ * database periodically to heal any missed update; a rebuild also drops the sets of industries that
+ * no longer have a rankable job.
+ *
+ * <p>A rebuild runs on one node at a time under a Redis lease and streams the rankable jobs into
+ * snapshot sets in batches. While the lease is held, every application increment is also recorded
+ * in a journal, and each snapshot is swapped in and the journal replayed on top of it in one
+ * script, so increments made during the rebuild are not lost. As for the approved job counters, an
+ * application committed just before its job is read but ranked after the journal was opened is
+ * counted twice until the next rebuild.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisJobRankingServiceImpl implements RedisJobRankingService {
+  private static final String GLOBAL_KEY = "rank:jobs:attractive";
+  private static final String INDUSTRY_KEY_PREFIX = "rank:jobs:attractive:industry:";
+  private static final String REBUILD_LEASE_KEY = "rank:jobs:attractive:rebuilding";
+  private static final String JOURNAL_KEY = "rank:jobs:attractive:journal";
+  private static final String TMP_SUFFIX = ":tmp";
+  private static final double APPLICATION_WEIGHT = 4_294_967_296d;
+  private static final int SCAN_BATCH_SIZE = 1000;
+  private static final int REBUILD_BATCH_SIZE = 1000;
+  private static final Duration REBUILD_LEASE_TTL = Duration.ofMinutes(5);
+
+  // Only bump members that are already ranked, so a late application never resurrects a job
+  // that was removed from the ranking in the meantime.
+  // KEYS: lease, journal, rankings... ARGV: member, score increment, application delta, TTL
+  private static final RedisScript<Long> INCREMENT_IF_RANKED_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          for i = 3, #KEYS do
+            if redis.call('ZSCORE', KEYS[i], ARGV[1]) then
+              redis.call('ZINCRBY', KEYS[i], ARGV[2], ARGV[1])
+            end
+          end
+          if redis.call('EXISTS', KEYS[1]) == 1 then
+            redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+          end
+          return 1
+          """,
+          Long.class);
+
+  // The journal holds one application delta per job and is replayed into every set that ranks
+  // the job, which is exactly the sets the job belongs to.
+  // KEYS: snapshot, ranking, journal. ARGV: application weight
+  private static final RedisScript<Long> SWAP_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          if redis.call('EXISTS', KEYS[1]) == 1 then
+            redis.call('RENAME', KEYS[1], KEYS[2])
+          else
+            redis.call('DEL', KEYS[2])
+          end
+          local deltas = redis.call('HGETALL', KEYS[3])
+          for i = 1, #deltas, 2 do
+            if redis.call('ZSCORE', KEYS[2], deltas[i]) then
+              local increment = string.format('%.17g', tonumber(deltas[i + 1]) * tonumber(ARGV[1]))
+              redis.call('ZINCRBY', KEYS[2], increment, deltas[i])
+            end
+          end
+          return #deltas / 2
+          """,
+          Long.class);
+
+  private static final RedisScript<Long> RELEASE_LEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+          end
+          return 0
+          """,
+          Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final JobRepository jobRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  @Override
+  public void rankJob(Job job) {
+    if (job.getExpirationDate() != null && job.getExpirationDate().isBefore(LocalDate.now())) {
+      return;
+    }
+    String member = job.getId().toString();
+    double score = score(job.getApplicationCount(), job.getCreatedAt());
+    List<String> keys = keysOf(industryIdsOf(job));
+    AppUtils.runAfterCommit(
+        () -> {
+          try {
+            keys.forEach(key -> stringRedisTemplate.opsForZSet().add(key, member, score));
+          } catch (Exception e) {
+            log.warn("Could not rank job {}: {}", member, e.getMessage());
+          }
+        });
+  }
+
+  @Override
+  public void removeJob(Long jobId, Collection<Long> industryIds) {
+    String member = jobId.toString();
+    List<String> keys = keysOf(industryIds);
+    AppUtils.runAfterCommit(
+        () -> {
+          try {
+            keys.forEach(key -> stringRedisTemplate.opsForZSet().remove(key, member));
+          } catch (Exception e) {
+            log.warn("Could not remove job {} from ranking: {}", member, e.getMessage());
+          }
+        });
+  }
+
+  @Override
+  public void incrementApplications(Long jobId, Collection<Long> industryIds, long delta) {
+    if (delta == 0) return;
+    List<String> keys = new ArrayList<>(List.of(REBUILD_LEASE_KEY, JOURNAL_KEY));
+    keys.addAll(keysOf(industryIds));
+    String member = jobId.toString();
+    AppUtils.runAfterCommit(
+        () -> {
+          try {
+            stringRedisTemplate.execute(
+                INCREMENT_IF_RANKED_SCRIPT,
+                keys,
+                member,
+                Double.toString(delta * APPLICATION_WEIGHT),
+                Long.toString(delta),
+                Long.toString(REBUILD_LEASE_TTL.toSeconds()));
+          } catch (Exception e) {
+            log.warn("Could not adjust ranking of job {}: {}", member, e.getMessage());
+          }
+        });
+  }
+
+  @Override
+  public boolean isReady() {
+    return Boolean.TRUE.equals(stringRedisTemplate.hasKey(GLOBAL_KEY));
+  }
+
+  @Override
+  public List<Long> getTopJobIds(Long industryId, int limit) {
+    String key = industryId == null ? GLOBAL_KEY : INDUSTRY_KEY_PREFIX + industryId;
+    Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, 0, limit - 1);
+    if (members == null) return List.of();
+    return members.stream().map(Long::valueOf).toList();
+  }
+
+  @Override
+  public boolean rebuild() {
+    String token = UUID.randomUUID().toString();
+    if (!Boolean.TRUE.equals(
+        stringRedisTemplate
+            .opsForValue()
+            .setIfAbsent(REBUILD_LEASE_KEY, token, REBUILD_LEASE_TTL))) {
+      return false;
+    }
+    try {
+      stringRedisTemplate.delete(JOURNAL_KEY);
+      Set<String> keys = new HashSet<>();
+      transactionTemplate.executeWithoutResult(status -> writeSnapshots(keys));
+      if (keys.add(GLOBAL_KEY)) {
+        // No rankable job: drop a snapshot left over by an interrupted run so the swap clears it
+        stringRedisTemplate.delete(GLOBAL_KEY + TMP_SUFFIX);
+      }
+      String weight = Double.toString(APPLICATION_WEIGHT);
+      keys.forEach(
+          key ->
+              stringRedisTemplate.execute(
+                  SWAP_SCRIPT, List.of(key + TMP_SUFFIX, key, JOURNAL_KEY), weight));
+      deleteStaleIndustryKeys(keys);
+      stringRedisTemplate.delete(JOURNAL_KEY);
+      return true;
+    } finally {
+      stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(REBUILD_LEASE_KEY), token);
+    }
+  }
+
+  /**
+   * Streams the rankable jobs into the snapshot sets, one ZADD per set and batch, and collects the
+   * keys of the sets written; a snapshot left over by an interrupted run is dropped before its
+   * first batch. The lease is extended after every batch.
+   */
+  private void writeSnapshots(Set<String> keys) {
+    Map<String, Set<TypedTuple<String>>> batch = new HashMap<>();
+    int rows = 0;
+    try (Stream<Object[]> rankable = jobRepository.streamRankableJobs()) {
+      Iterator<Object[]> iterator = rankable.iterator();
+      while (iterator.hasNext()) {
+        Object[] r = iterator.next();
+        Long jobId = (Long) r[0];
+        Integer applicationCount = (Integer) r[1];
+        LocalDateTime createdAt = (LocalDateTime) r[2];
+        Long industryId = (Long) r[3];
+        TypedTuple<String> tuple =
+            new DefaultTypedTuple<>(jobId.toString(), score(applicationCount, createdAt));
+        batch.computeIfAbsent(GLOBAL_KEY, k -> new HashSet<>()).add(tuple);
+        if (industryId != null) {
+          batch.computeIfAbsent(INDUSTRY_KEY_PREFIX + industryId, k -> new HashSet<>()).add(tuple);
+        }
+        if (++rows % REBUILD_BATCH_SIZE == 0 || !iterator.hasNext()) {
+          writeBatch(batch, keys);
+          batch.clear();
+          stringRedisTemplate.expire(REBUILD_LEASE_KEY, REBUILD_LEASE_TTL);
+        }
+      }
+    }
+  }
+
+  private void writeBatch(Map<String, Set<TypedTuple<String>>> batch, Set<String> keys) {
+    batch.forEach(
+        (key, tuples) -> {
+          String tmpKey = key + TMP_SUFFIX;
+          if (keys.add(key)) stringRedisTemplate.delete(tmpKey);
+          stringRedisTemplate.opsForZSet().add(tmpKey, tuples);
+        });
+  }
+
+  /** Deletes the per-industry sets of industries that are absent from the latest rebuild. */
+  private void deleteStaleIndustryKeys(Set<String> liveKeys) {
+    ScanOptions options =
+        ScanOptions.scanOptions().match(INDUSTRY_KEY_PREFIX + "*").count(SCAN_BATCH_SIZE).build();
+    List<String> stale = new ArrayList<>();
+    try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+      while (cursor.hasNext()) {
+        String key = cursor.next();
+        if (!key.endsWith(TMP_SUFFIX) && !liveKeys.contains(key)) stale.add(key);
+      }
+    }
+    if (!stale.isEmpty()) {
+      stringRedisTemplate.unlink(stale);
+    }
+  }
+
+  private double score(Integer applicationCount, LocalDateTime createdAt) {
+    long count = applicationCount == null ? 0 : applicationCount;
+    long createdAtSeconds = createdAt == null ? 0 : createdAt.toEpochSecond(ZoneOffset.UTC);
+    return count * APPLICATION_WEIGHT + createdAtSeconds;
+  }
+
+  private List<String> keysOf(Collection<Long> industryIds) {
+    List<String> keys = new ArrayList<>();
+    keys.add(GLOBAL_KEY);
+    industryIds.stream().filter(Objects::nonNull).forEach(id -> keys.add(INDUSTRY_KEY_PREFIX + id));
+    return keys;
+  }
+
+  private Set<Long> industryIdsOf(Job job) {
+    Set<Long> ids = new HashSet<>();
+    if (job.getJobIndustries() != null) {
+      for (JobIndustry jobIndustry : job.getJobIndustries()) {
+        if (jobIndustry.getIndustry() != null) ids.add(jobIndustry.getIndustry().getId());
+      }
+    }
+    return ids;
+  }
+}
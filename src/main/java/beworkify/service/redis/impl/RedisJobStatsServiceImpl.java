@@ -0,0 +1,169 @@
+package beworkify.service.redis.impl;
+
+import beworkify.repository.JobRepository;
+import beworkify.service.redis.RedisJobStatsService;
+import beworkify.util.AppUtils;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the number of approved jobs per province and per industry in Redis hashes. Counters are
+ * adjusted on job status transitions once the surrounding transaction commits, and rebuilt from the
+ * database periodically to heal any drift.
+ *
+ * <p>A rebuild runs on one node at a time under a Redis lease. While the lease is held, every
+ * adjustment is also recorded in a delta journal, and the snapshot is swapped in and the journal
+ * replayed on top of it in one script, so adjustments made during the rebuild are not lost. The
+ * remaining drift window is a transaction that commits just before the snapshot query starts but
+ * adjusts the counters after the journal was opened: it is counted twice until the next rebuild.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisJobStatsServiceImpl implements RedisJobStatsService {
+  private static final String PROVINCE_KEY = "stats:jobs:approved:province";
+  private static final String INDUSTRY_KEY = "stats:jobs:approved:industry";
+  private static final String REBUILD_LEASE_KEY = "stats:jobs:approved:rebuilding";
+  private static final String TMP_SUFFIX = ":tmp";
+  private static final String JOURNAL_SUFFIX = ":journal";
+  private static final Duration REBUILD_LEASE_TTL = Duration.ofMinutes(5);
+
+  // KEYS: lease, counters, journal. ARGV: delta, journal TTL in seconds, fields...
+  static final RedisScript<Long> ADJUST_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local journaling = redis.call('EXISTS', KEYS[1]) == 1
+          for i = 3, #ARGV do
+            redis.call('HINCRBY', KEYS[2], ARGV[i], ARGV[1])
+            if journaling then
+              redis.call('HINCRBY', KEYS[3], ARGV[i], ARGV[1])
+            end
+          end
+          if journaling then
+            redis.call('EXPIRE', KEYS[3], ARGV[2])
+          end
+          return 1
+          """,
+          Long.class);
+
+  // KEYS: snapshot, counters, journal
+  static final RedisScript<Long> SWAP_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          if redis.call('EXISTS', KEYS[1]) == 1 then
+            redis.call('RENAME', KEYS[1], KEYS[2])
+          else
+            redis.call('DEL', KEYS[2])
+          end
+          local deltas = redis.call('HGETALL', KEYS[3])
+          for i = 1, #deltas, 2 do
+            redis.call('HINCRBY', KEYS[2], deltas[i], deltas[i + 1])
+          end
+          redis.call('DEL', KEYS[3])
+          return #deltas / 2
+          """,
+          Long.class);
+
+  private static final RedisScript<Long> RELEASE_LEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+          end
+          return 0
+          """,
+          Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final JobRepository jobRepository;
+
+  @Override
+  public void adjustApprovedJobCounts(
+      Collection<Long> provinceIds, Collection<Long> industryIds, long delta) {
+    if (delta == 0) return;
+    AppUtils.runAfterCommit(
+        () -> {
+          try {
+            adjust(PROVINCE_KEY, provinceIds, delta);
+            adjust(INDUSTRY_KEY, industryIds, delta);
+          } catch (Exception e) {
+            log.warn("Could not adjust approved job counters: {}", e.getMessage());
+          }
+        });
+  }
+
+  @Override
+  public Map<Long, Long> getApprovedJobCountsByProvince() {
+    return readCounts(PROVINCE_KEY);
+  }
+
+  @Override
+  public Map<Long, Long> getApprovedJobCountsByIndustry() {
+    return readCounts(INDUSTRY_KEY);
+  }
+
+  @Override
+  public boolean rebuild() {
+    String token = UUID.randomUUID().toString();
+    if (!Boolean.TRUE.equals(
+        stringRedisTemplate
+            .opsForValue()
+            .setIfAbsent(REBUILD_LEASE_KEY, token, REBUILD_LEASE_TTL))) {
+      return false;
+    }
+    try {
+      stringRedisTemplate.delete(
+          List.of(PROVINCE_KEY + JOURNAL_SUFFIX, INDUSTRY_KEY + JOURNAL_SUFFIX));
+      replaceCounts(PROVINCE_KEY, jobRepository.countApprovedJobsByProvince());
+      replaceCounts(INDUSTRY_KEY, jobRepository.countApprovedJobsByIndustry());
+      return true;
+    } finally {
+      stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(REBUILD_LEASE_KEY), token);
+    }
+  }
+
+  private void adjust(String key, Collection<Long> ids, long delta) {
+    List<String> args = new ArrayList<>();
+    args.add(Long.toString(delta));
+    args.add(Long.toString(REBUILD_LEASE_TTL.toSeconds()));
+    ids.stream().filter(Objects::nonNull).map(Object::toString).forEach(args::add);
+    if (args.size() == 2) return;
+    stringRedisTemplate.execute(
+        ADJUST_SCRIPT, List.of(REBUILD_LEASE_KEY, key, key + JOURNAL_SUFFIX), args.toArray());
+  }
+
+  private Map<Long, Long> readCounts(String key) {
+    Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key);
+    Map<Long, Long> counts = new HashMap<>();
+    entries.forEach(
+        (field, value) ->
+            counts.put(Long.valueOf(field.toString()), Long.valueOf(value.toString())));
+    return counts;
+  }
+
+  private void replaceCounts(String key, List<Object[]> rows) {
+    String tmpKey = key + TMP_SUFFIX;
+    stringRedisTemplate.delete(tmpKey);
+    if (!rows.isEmpty()) {
+      Map<String, String> values = new HashMap<>();
+      rows.forEach(r -> values.put(r[0].toString(), r[1].toString()));
+      stringRedisTemplate.opsForHash().putAll(tmpKey, values);
+    }
+    stringRedisTemplate.execute(SWAP_SCRIPT, List.of(tmpKey, key, key + JOURNAL_SUFFIX));
+  }
+}
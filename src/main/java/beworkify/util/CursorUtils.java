@@ -0,0 +1,81 @@
+package beworkify.util;
+
+import beworkify.enumeration.ErrorCode;
+import beworkify.exception.AppException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Utility class for encoding and decoding opaque keyset pagination cursors. A cursor carries the
+ * sort key of the last returned row ({@code createdAt}) and its id as a tie-breaker, so the next
+ * page can be fetched with a seek predicate instead of an OFFSET.
+ *
+ * <p>Search cursors carry an Elasticsearch point-in-time id and the {@code search_after} sort
+ * values of the last returned hit instead.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+public class CursorUtils {
+
+  private static final String SEPARATOR = "|";
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  public static String encode(LocalDateTime createdAt, Long id) {
+    if (createdAt == null || id == null) return null;
+    String raw = createdAt + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static Cursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) return Cursor.FIRST;
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+      int index = raw.lastIndexOf(SEPARATOR);
+      if (index <= 0) throw new AppException(ErrorCode.INVALID_CURSOR);
+      LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, index));
+      Long id = Long.parseLong(raw.substring(index + 1));
+      return new Cursor(createdAt, id);
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new AppException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+
+  public record Cursor(LocalDateTime createdAt, Long id) {
+    public static final Cursor FIRST = new Cursor(null, null);
+  }
+
+  public static String encodeSearchAfter(String pitId, List<Object> searchAfter) {
+    try {
+      byte[] raw = OBJECT_MAPPER.writeValueAsBytes(new SearchAfterCursor(pitId, searchAfter));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not encode search cursor", e);
+    }
+  }
+
+  public static SearchAfterCursor decodeSearchAfter(String cursor) {
+    if (cursor == null || cursor.isBlank()) return null;
+    try {
+      SearchAfterCursor decoded =
+          OBJECT_MAPPER.readValue(
+              Base64.getUrlDecoder().decode(cursor.trim()), SearchAfterCursor.class);
+      if (decoded.pitId() == null || decoded.searchAfter() == null) {
+        throw new AppException(ErrorCode.INVALID_CURSOR);
+      }
+      return decoded;
+    } catch (IllegalArgumentException | IOException e) {
+      throw new AppException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+
+  public record SearchAfterCursor(String pitId, List<Object> searchAfter) {}
+}
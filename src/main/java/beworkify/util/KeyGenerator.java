@@ -2,6 +2,7 @@ package beworkify.util;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
@@ -12,7 +13,18 @@ import org.springframework.stereotype.Component;
  * @since 1.0.0
  */
 @Component("keyGenerator")
+@RequiredArgsConstructor
 public class KeyGenerator {
+  private final RedisUtils redisUtils;
+
+  /**
+   * Prefixes a key with the current generation of its namespace, so the whole namespace can be
+   * invalidated in O(1) with {@link RedisUtils#bumpGeneration(String)}.
+   */
+  public String withGeneration(String namespace, String key) {
+    return "g" + redisUtils.getGeneration(namespace) + ":" + key;
+  }
+
   public static String buildKeyWithPaginationSortsKeyword(
       int pageNumber,
       int pageSize,
@@ -0,0 +1,80 @@
+package beworkify.util;
+
+import beworkify.enumeration.CountMode;
+import java.time.Duration;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a paginated query according to the requested {@link CountMode}. {@code NONE} runs the slice
+ * variant of the query (size + 1 rows, no COUNT). {@code APPROXIMATE} runs the slice variant as
+ * well and takes the total from a count cached per filter for a few minutes, running the exact
+ * query only when no count is cached yet.
+ *
+ * @author KhanhDX
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PageFetcher {
+
+  private static final String COUNT_KEY_PREFIX = "count:";
+  private static final Duration COUNT_TTL = Duration.ofMinutes(5);
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  public <T> Slice<T> fetch(
+      CountMode countMode,
+      String countKey,
+      Pageable pageable,
+      Function<Pageable, Page<T>> pageQuery,
+      Function<Pageable, Slice<T>> sliceQuery) {
+    if (countMode == CountMode.NONE) {
+      return sliceQuery.apply(pageable);
+    }
+    if (countMode != CountMode.APPROXIMATE) {
+      return pageQuery.apply(pageable);
+    }
+    String key = COUNT_KEY_PREFIX + countKey;
+    Long cachedTotal = readCount(key);
+    if (cachedTotal == null) {
+      Page<T> page = pageQuery.apply(pageable);
+      writeCount(key, page.getTotalElements());
+      return page;
+    }
+    Slice<T> slice = sliceQuery.apply(pageable);
+    long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+    return new PageImpl<>(slice.getContent(), pageable, Math.max(cachedTotal, seen));
+  }
+
+  /** Total pages of a counted result, {@code null} when the slice was fetched without a count. */
+  public static Integer totalPagesOf(Slice<?> slice) {
+    return slice instanceof Page<?> page ? page.getTotalPages() : null;
+  }
+
+  private Long readCount(String key) {
+    try {
+      String value = stringRedisTemplate.opsForValue().get(key);
+      return value == null ? null : Long.valueOf(value);
+    } catch (Exception e) {
+      log.warn("Could not read cached count {}: {}", key, e.getMessage());
+      return null;
+    }
+  }
+
+  private void writeCount(String key, long total) {
+    try {
+      stringRedisTemplate.opsForValue().set(key, Long.toString(total), COUNT_TTL);
+    } catch (Exception e) {
+      log.warn("Could not cache count {}: {}", key, e.getMessage());
+    }
+  }
+}
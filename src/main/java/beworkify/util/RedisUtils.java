@@ -1,26 +1,111 @@
 package beworkify.util;
 
-import java.util.Set;
+import beworkify.cache.CacheInvalidationMessage;
+import beworkify.cache.TwoLevelCacheManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 /**
  * Utility class for interacting with Redis. Provides methods for cache eviction and other Redis
  * operations.
  *
+ * <p>Groups of cache entries (e.g. every page of a listing) are invalidated by bumping a generation
+ * counter that is part of their keys, see {@link KeyGenerator#withGeneration(String, String)}.
+ * Entries of an old generation are never read again and expire with their TTL.
+ *
+ * <p>Generations are read on every cached call, so each node keeps them in memory. A bump is
+ * broadcast on {@link TwoLevelCacheManager#INVALIDATION_CHANNEL} and drops the local copy on every
+ * node; a short local TTL bounds staleness when a message is lost or races a concurrent read.
+ *
  * @author KhanhDX
  * @since 1.0.0
  */
 @Component
 @RequiredArgsConstructor
-public class RedisUtils {
+@Slf4j
+public class RedisUtils implements MessageListener {
+  private static final String GENERATION_KEY_PREFIX = "cache:gen:";
+  private static final String GENERATION_CACHE_NAME = "cache:gen";
+  private static final Duration GENERATION_LOCAL_TTL = Duration.ofSeconds(5);
+  private static final int SCAN_BATCH_SIZE = 1000;
+
+  private final String nodeId = UUID.randomUUID().toString();
   private final RedisTemplate<String, Object> redisTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final Cache<String, Long> generations =
+      Caffeine.newBuilder().expireAfterWrite(GENERATION_LOCAL_TTL).build();
+
+  public long getGeneration(String namespace) {
+    return generations.get(namespace, this::readGeneration);
+  }
+
+  public void bumpGeneration(String namespace) {
+    Long generation =
+        stringRedisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + namespace);
+    if (generation != null) {
+      generations.put(namespace, generation);
+    }
+    try {
+      redisTemplate.convertAndSend(
+          TwoLevelCacheManager.INVALIDATION_CHANNEL,
+          new CacheInvalidationMessage(nodeId, GENERATION_CACHE_NAME, namespace));
+    } catch (Exception e) {
+      log.warn("Could not broadcast generation bump of {}: {}", namespace, e.getMessage());
+    }
+  }
+
+  /** Drops the local generation of a namespace bumped by another node. */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+    if (body instanceof CacheInvalidationMessage invalidation
+        && GENERATION_CACHE_NAME.equals(invalidation.getCacheName())
+        && !nodeId.equals(invalidation.getNodeId())
+        && invalidation.getKey() instanceof String namespace) {
+      generations.invalidate(namespace);
+    }
+  }
+
+  private long readGeneration(String namespace) {
+    String value = stringRedisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + namespace);
+    return value == null ? 0L : Long.parseLong(value);
+  }
 
   public void evictCacheByPattern(String pattern) {
-    Set<String> keys = redisTemplate.keys(pattern);
-    if (!keys.isEmpty()) {
-      redisTemplate.delete(keys);
+    if (!isPattern(pattern)) {
+      redisTemplate.unlink(pattern);
+      return;
     }
+    ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH_SIZE).build();
+    List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      while (cursor.hasNext()) {
+        batch.add(cursor.next());
+        if (batch.size() >= SCAN_BATCH_SIZE) {
+          redisTemplate.unlink(batch);
+          batch.clear();
+        }
+      }
+    }
+    if (!batch.isEmpty()) {
+      redisTemplate.unlink(batch);
+    }
+  }
+
+  private boolean isPattern(String pattern) {
+    return pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0 || pattern.indexOf('[') >= 0;
   }
 }
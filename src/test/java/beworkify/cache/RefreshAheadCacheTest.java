@@ -0,0 +1,113 @@
+package beworkify.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class RefreshAheadCacheTest {
+
+  private static final Duration TTL = Duration.ofMinutes(1);
+
+  private final ConcurrentMapCache remote = new ConcurrentMapCache("feed");
+  private final AtomicInteger loads = new AtomicInteger();
+  private final Callable<String> loader =
+      () -> {
+        loads.incrementAndGet();
+        return "fresh";
+      };
+  private ValueOperations<String, String> valueOperations;
+  private RefreshAheadCache cache;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    valueOperations = mock(ValueOperations.class);
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .thenReturn(true);
+    // Refreshes run on the calling thread, so their effect is visible when get returns
+    cache = new RefreshAheadCache("feed", remote, TTL, stringRedisTemplate, Runnable::run);
+  }
+
+  @Test
+  void freshEntryIsServedWithoutRefresh() {
+    remote.put("k", envelope("cached", System.currentTimeMillis() + TTL.toMillis(), 0));
+
+    assertThat(cache.get("k", loader)).isEqualTo("cached");
+    assertThat(loads).hasValue(0);
+  }
+
+  @Test
+  void expiredEntryIsServedAndRefreshed() {
+    remote.put("k", envelope("stale", System.currentTimeMillis() - 1, 10));
+
+    assertThat(cache.get("k", loader)).isEqualTo("stale");
+    assertThat(loads).hasValue(1);
+    assertThat(cache.get("k")).isNotNull().extracting(v -> v.get()).isEqualTo("fresh");
+  }
+
+  @Test
+  void slowEntryIsRefreshedBeforeItExpires() {
+    // A compute time far above the remaining lifetime makes the XFetch check fire early
+    remote.put("k", envelope("cached", System.currentTimeMillis() + 1_000, 1_000_000_000));
+
+    assertThat(cache.get("k", loader)).isEqualTo("cached");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void refreshIsSkippedWhileAnotherNodeHoldsTheLease() {
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .thenReturn(false);
+    remote.put("k", envelope("stale", System.currentTimeMillis() - 1, 10));
+
+    assertThat(cache.get("k", loader)).isEqualTo("stale");
+    assertThat(loads).hasValue(0);
+  }
+
+  @Test
+  void missIsComputedAndStoredWithItsExpiry() {
+    long before = System.currentTimeMillis();
+
+    assertThat(cache.get("k", loader)).isEqualTo("fresh");
+
+    CacheEnvelope stored = (CacheEnvelope) remote.get("k").get();
+    assertThat(stored.getValue()).isEqualTo("fresh");
+    assertThat(stored.getExpiresAt()).isGreaterThanOrEqualTo(before + TTL.toMillis());
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void missFallsBackToTheLoaderWhenRedisIsDown() {
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .thenThrow(new IllegalStateException("down"));
+
+    assertThat(cache.get("k", loader)).isEqualTo("fresh");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void missComputesItselfWhenTheLeaseHolderNeverDelivers() {
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .thenReturn(false);
+
+    assertThat(cache.get("k", loader)).isEqualTo("fresh");
+    assertThat(loads).hasValue(1);
+  }
+
+  private static CacheEnvelope envelope(Object value, long expiresAt, long computeMillis) {
+    return new CacheEnvelope(value, expiresAt, computeMillis);
+  }
+}
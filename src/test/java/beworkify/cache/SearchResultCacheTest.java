@@ -0,0 +1,134 @@
+package beworkify.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class SearchResultCacheTest {
+
+  private final Map<String, Object> redis = new ConcurrentHashMap<>();
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+  private ValueOperations<String, Object> valueOperations;
+  private SearchResultCache cache;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    valueOperations = mock(ValueOperations.class);
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.get(anyString())).thenAnswer(i -> redis.get(i.<String>getArgument(0)));
+    doAnswer(i -> redis.put(i.getArgument(0), i.getArgument(1)))
+        .when(valueOperations)
+        .set(anyString(), any(), any(Duration.class));
+    cache = new SearchResultCache(redisTemplate);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void concurrentMissesRunTheSearchOnce() throws Exception {
+    AtomicInteger searches = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Supplier<CachedSearchResult> loader =
+        () -> {
+          searches.incrementAndGet();
+          started.countDown();
+          await(release);
+          return result(1L, 2L);
+        };
+
+    Future<CachedSearchResult> first = executor.submit(() -> cache.get("kw=java", loader));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    List<Future<CachedSearchResult>> others =
+        List.of(
+            executor.submit(() -> cache.get("kw=java", loader)),
+            executor.submit(() -> cache.get("kw=java", loader)));
+    release.countDown();
+
+    CachedSearchResult expected = first.get(5, TimeUnit.SECONDS);
+    for (Future<CachedSearchResult> other : others) {
+      assertThat(other.get(5, TimeUnit.SECONDS).getIds()).isEqualTo(expected.getIds());
+    }
+    assertThat(searches).hasValue(1);
+  }
+
+  @Test
+  void cachedResultSkipsTheSearch() {
+    cache.get("kw=java", () -> result(1L));
+
+    CachedSearchResult cached =
+        cache.get(
+            "kw=java",
+            () -> {
+              throw new AssertionError("search should not run");
+            });
+
+    assertThat(cached.getIds()).containsExactly(1L);
+  }
+
+  @Test
+  void differentFingerprintsAreNotShared() {
+    cache.get("kw=java", () -> result(1L));
+
+    assertThat(cache.get("kw=php", () -> result(2L)).getIds()).containsExactly(2L);
+  }
+
+  @Test
+  void failedSearchIsPropagatedAndNotCached() {
+    assertThatThrownBy(
+            () ->
+                cache.get(
+                    "kw=java",
+                    () -> {
+                      throw new IllegalStateException("search failed");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(cache.get("kw=java", () -> result(3L)).getIds()).containsExactly(3L);
+  }
+
+  @Test
+  void redisFailureIsTreatedAsAMiss() {
+    when(valueOperations.get(anyString())).thenThrow(new IllegalStateException("down"));
+
+    assertThat(cache.get("kw=java", () -> result(4L)).getIds()).containsExactly(4L);
+  }
+
+  private static CachedSearchResult result(Long... ids) {
+    return new CachedSearchResult(List.of(ids), ids.length, Map.of());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
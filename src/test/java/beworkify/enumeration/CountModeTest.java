@@ -0,0 +1,30 @@
+package beworkify.enumeration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import beworkify.exception.AppException;
+import org.junit.jupiter.api.Test;
+
+class CountModeTest {
+
+  @Test
+  void missingValueDefaultsToExact() {
+    assertThat(CountMode.fromValue(null)).isEqualTo(CountMode.EXACT);
+    assertThat(CountMode.fromValue(" ")).isEqualTo(CountMode.EXACT);
+  }
+
+  @Test
+  void valuesAreMatchedIgnoringCase() {
+    assertThat(CountMode.fromValue("none")).isEqualTo(CountMode.NONE);
+    assertThat(CountMode.fromValue("Approximate")).isEqualTo(CountMode.APPROXIMATE);
+  }
+
+  @Test
+  void unknownValueIsRejected() {
+    assertThatThrownBy(() -> CountMode.fromValue("fast"))
+        .isInstanceOf(AppException.class)
+        .extracting(e -> ((AppException) e).getErrorCode())
+        .isEqualTo(ErrorCode.INVALID_COUNT_MODE_ENUM);
+  }
+}
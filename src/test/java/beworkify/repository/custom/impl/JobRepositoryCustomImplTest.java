@@ -0,0 +1,392 @@
+package beworkify.repository.custom.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import beworkify.dto.db.JobBenefit;
+import beworkify.dto.request.JobBenefitRequest;
+import beworkify.dto.request.JobRequest;
+import beworkify.dto.request.LocationRequest;
+import beworkify.dto.response.BulkJobCreateResponse;
+import beworkify.entity.District;
+import beworkify.entity.Employer;
+import beworkify.entity.Industry;
+import beworkify.entity.Job;
+import beworkify.entity.JobIndustry;
+import beworkify.entity.Location;
+import beworkify.entity.Province;
+import beworkify.enumeration.AgeType;
+import beworkify.enumeration.BenefitType;
+import beworkify.enumeration.EducationLevel;
+import beworkify.enumeration.ExperienceLevel;
+import beworkify.enumeration.JobGender;
+import beworkify.enumeration.JobLevel;
+import beworkify.enumeration.JobStatus;
+import beworkify.enumeration.JobType;
+import beworkify.enumeration.LevelCompanySize;
+import beworkify.enumeration.SalaryType;
+import beworkify.enumeration.SalaryUnit;
+import beworkify.mapper.JobMapperImpl;
+import beworkify.repository.DistrictRepository;
+import beworkify.repository.EmployerRepository;
+import beworkify.repository.IndustryRepository;
+import beworkify.repository.JobRepository;
+import beworkify.repository.JobSearchOutboxRepository;
+import beworkify.repository.ProvinceRepository;
+import beworkify.service.impl.JobServiceImpl;
+import beworkify.util.RedisUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class JobRepositoryCustomImplTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+  private static final LocalDate EXPIRATION_DATE = LocalDate.of(2026, 3, 1);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private JdbcTemplate jdbcTemplate;
+  private JobRepositoryCustomImpl repository;
+
+  @Mock private JobRepository jobRepository;
+  @Mock private EmployerRepository employerRepository;
+  @Mock private ProvinceRepository provinceRepository;
+  @Mock private DistrictRepository districtRepository;
+  @Mock private IndustryRepository industryRepository;
+  @Mock private JobSearchOutboxRepository jobSearchOutboxRepository;
+  @Mock private Validator validator;
+  @Mock private TransactionTemplate transactionTemplate;
+  @Mock private RedisUtils redisUtils;
+  @Spy private JobMapperImpl mapper;
+  @InjectMocks private JobServiceImpl jobService;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate =
+        new JdbcTemplate(
+            new DriverManagerDataSource(
+                "jdbc:h2:mem:job-bulk-insert;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"));
+    jdbcTemplate.execute("CREATE DOMAIN jsonb AS JSON");
+    jdbcTemplate.execute(
+        "CREATE TABLE locations (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+            + " province_id BIGINT, district_id BIGINT, detail_address VARCHAR(255),"
+            + " job_id BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+    jdbcTemplate.execute(
+        "CREATE TABLE jobs (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+            + " company_name VARCHAR(1000), company_size INT, company_website VARCHAR(1000),"
+            + " about_company TEXT, job_title VARCHAR(1000), salary_type VARCHAR(255),"
+            + " min_salary DOUBLE PRECISION, max_salary DOUBLE PRECISION,"
+            + " salary_unit VARCHAR(255), job_description TEXT, requirement TEXT,"
+            + " job_benefits jsonb, education_level INT, experience_level INT, job_level INT,"
+            + " job_type INT, gender INT, job_code VARCHAR(255), age_type VARCHAR(255),"
+            + " min_age BIGINT, max_age BIGINT, contact_person VARCHAR(255),"
+            + " phone_number VARCHAR(255), contact_location_id BIGINT, description TEXT,"
+            + " expiration_date DATE, status INT, employer_id BIGINT, application_count INT,"
+            + " save_count INT, view_count BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+    jdbcTemplate.execute(
+        "CREATE TABLE job_industries (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+            + " job_id BIGINT, industry_id BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+    repository = new JobRepositoryCustomImpl(jdbcTemplate, objectMapper);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+    jdbcTemplate.execute("DROP ALL OBJECTS");
+  }
+
+  @Test
+  void jobRowLinesUpWithTheInsertColumns() throws Exception {
+    Job job = sampleJob("Backend engineer");
+    job.getContactLocation().setId(11L);
+
+    List<String> columns = insertColumns();
+    Object[] row = repository.jobRow(job, NOW);
+
+    assertThat(row).hasSize(columns.size());
+    assertThat(placeholderCount()).isEqualTo(columns.size());
+    Map<String, Object> actual = new LinkedHashMap<>();
+    for (int i = 0; i < columns.size(); i++) {
+      actual.put(columns.get(i), row[i]);
+    }
+    assertThat(actual).containsExactlyInAnyOrderEntriesOf(expectedColumns(job));
+  }
+
+  @Test
+  void insertAllRoundTripsJobsWithTheirLocationsAndIndustries() throws Exception {
+    Job first = sampleJob("Backend engineer");
+    Job second = sampleJob("Frontend engineer");
+
+    repository.insertAll(List.of(first, second));
+
+    assertThat(first.getId()).isNotNull();
+    assertThat(second.getId()).isNotNull().isNotEqualTo(first.getId());
+    assertThat(first.getCreatedAt()).isNotNull();
+    for (Job job : List.of(first, second)) {
+      Map<String, Object> stored =
+          jdbcTemplate.queryForMap("SELECT * FROM jobs WHERE id = ?", job.getId());
+      Map<String, Object> expected = expectedColumns(job);
+      expected.put("created_at", job.getCreatedAt());
+      expected.put("updated_at", job.getUpdatedAt());
+      for (Map.Entry<String, Object> column : expected.entrySet()) {
+        assertThat(normalize(stored.get(column.getKey())))
+            .as(column.getKey())
+            .isEqualTo(column.getValue());
+      }
+
+      assertThat(
+              jdbcTemplate.queryForObject(
+                  "SELECT province_id FROM locations WHERE id = ? AND job_id IS NULL",
+                  Long.class,
+                  job.getContactLocation().getId()))
+          .isEqualTo(1L);
+      assertThat(
+              jdbcTemplate.queryForList(
+                  "SELECT district_id FROM locations WHERE job_id = ?", Long.class, job.getId()))
+          .containsExactly(3L);
+      assertThat(
+              jdbcTemplate.queryForList(
+                  "SELECT industry_id FROM job_industries WHERE job_id = ?",
+                  Long.class,
+                  job.getId()))
+          .containsExactly(4L);
+    }
+  }
+
+  @Test
+  void bulkCreateRoundTripsAJobThroughTheDatabase() {
+    Job reference = sampleJob("unused");
+    Location location = reference.getContactLocation();
+    Industry industry = reference.getJobIndustries().iterator().next().getIndustry();
+    Employer author = reference.getAuthor();
+    when(employerRepository.findByEmail("employer@workify.vn")).thenReturn(Optional.of(author));
+    when(provinceRepository.findAllById(anyCollection()))
+        .thenReturn(List.of(location.getProvince()));
+    when(districtRepository.findAllById(anyCollection()))
+        .thenReturn(List.of(location.getDistrict()));
+    when(industryRepository.findAllById(anyCollection())).thenReturn(List.of(industry));
+    when(validator.validate(any(JobRequest.class))).thenReturn(Set.of());
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(i -> i.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    doAnswer(
+            i -> {
+              repository.insertAll(i.getArgument(0));
+              return null;
+            })
+        .when(jobRepository)
+        .insertAll(anyList());
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(
+                User.withUsername("employer@workify.vn").password("secret").build(), null));
+
+    BulkJobCreateResponse response = jobService.bulkCreate(List.of(sampleRequest()).iterator());
+
+    assertThat(response.getErrors()).isEmpty();
+    assertThat(response.getJobIds()).hasSize(1);
+    Long jobId = response.getJobIds().get(0);
+    verify(jobSearchOutboxRepository).enqueueJobs(List.of(jobId));
+    Map<String, Object> stored = jdbcTemplate.queryForMap("SELECT * FROM jobs WHERE id = ?", jobId);
+    assertThat(stored)
+        .containsEntry("job_title", "Backend engineer")
+        .containsEntry("company_size", LevelCompanySize.FROM_5000_TO_9999.ordinal())
+        .containsEntry("salary_type", SalaryType.RANGE.name())
+        .containsEntry("salary_unit", SalaryUnit.USD.name())
+        .containsEntry("education_level", EducationLevel.MASTER.ordinal())
+        .containsEntry("job_type", JobType.TEMPORARY_PART_TIME.ordinal())
+        .containsEntry("status", JobStatus.PENDING.ordinal())
+        .containsEntry("employer_id", 12L)
+        .containsEntry("application_count", 0)
+        .containsEntry("view_count", 0L);
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT detail_address FROM locations WHERE id = ? OR job_id = ?",
+                String.class,
+                stored.get("contact_location_id"),
+                jobId))
+        .containsExactlyInAnyOrder("HQ", "Office");
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT industry_id FROM job_industries WHERE job_id = ?", Long.class, jobId))
+        .containsExactly(4L);
+  }
+
+  private Map<String, Object> expectedColumns(Job job) throws Exception {
+    Map<String, Object> expected = new LinkedHashMap<>();
+    expected.put("company_name", job.getCompanyName());
+    expected.put("company_size", job.getCompanySize().ordinal());
+    expected.put("company_website", job.getCompanyWebsite());
+    expected.put("about_company", job.getAboutCompany());
+    expected.put("job_title", job.getJobTitle());
+    expected.put("salary_type", job.getSalaryType().name());
+    expected.put("min_salary", job.getMinSalary());
+    expected.put("max_salary", job.getMaxSalary());
+    expected.put("salary_unit", job.getSalaryUnit().name());
+    expected.put("job_description", job.getJobDescription());
+    expected.put("requirement", job.getRequirement());
+    expected.put("job_benefits", objectMapper.writeValueAsString(job.getJobBenefits()));
+    expected.put("education_level", job.getEducationLevel().ordinal());
+    expected.put("experience_level", job.getExperienceLevel().ordinal());
+    expected.put("job_level", job.getJobLevel().ordinal());
+    expected.put("job_type", job.getJobType().ordinal());
+    expected.put("gender", job.getGender().ordinal());
+    expected.put("job_code", job.getJobCode());
+    expected.put("age_type", job.getAgeType().name());
+    expected.put("min_age", job.getMinAge());
+    expected.put("max_age", job.getMaxAge());
+    expected.put("contact_person", job.getContactPerson());
+    expected.put("phone_number", job.getPhoneNumber());
+    expected.put("contact_location_id", job.getContactLocation().getId());
+    expected.put("description", job.getDescription());
+    expected.put("expiration_date", job.getExpirationDate());
+    expected.put("status", job.getStatus().ordinal());
+    expected.put("employer_id", job.getAuthor().getId());
+    expected.put("application_count", job.getApplicationCount());
+    expected.put("save_count", job.getSaveCount());
+    expected.put("view_count", job.getViewCount());
+    expected.put("created_at", NOW);
+    expected.put("updated_at", NOW);
+    return expected;
+  }
+
+  /** Converts the JDBC types read back from H2 to the types bound by {@code jobRow}. */
+  private Object normalize(Object value) throws Exception {
+    if (value instanceof java.sql.Timestamp timestamp) return timestamp.toLocalDateTime();
+    if (value instanceof java.sql.Date date) return date.toLocalDate();
+    if (value instanceof byte[] json) {
+      // Unlike Postgres, H2 casts a character string to a JSON string literal
+      JsonNode node = objectMapper.readTree(json);
+      return node.isTextual() ? node.asText() : objectMapper.writeValueAsString(node);
+    }
+    return value;
+  }
+
+  private static List<String> insertColumns() {
+    String sql = JobRepositoryCustomImpl.INSERT_JOB_SQL;
+    String columns = sql.substring(sql.indexOf('(') + 1, sql.indexOf(')'));
+    return Arrays.stream(columns.split(",")).map(String::trim).toList();
+  }
+
+  private static long placeholderCount() {
+    String sql = JobRepositoryCustomImpl.INSERT_JOB_SQL;
+    return sql.substring(sql.indexOf("VALUES")).chars().filter(c -> c == '?').count();
+  }
+
+  private static JobRequest sampleRequest() {
+    JobRequest request = new JobRequest();
+    request.setCompanyName("Workify");
+    request.setCompanySize(LevelCompanySize.FROM_5000_TO_9999.name());
+    request.setAboutCompany("About Workify");
+    request.setJobTitle("Backend engineer");
+    request.setSalaryType(SalaryType.RANGE.name());
+    request.setMinSalary(1_000d);
+    request.setMaxSalary(2_000d);
+    request.setSalaryUnit(SalaryUnit.USD.name());
+    request.setJobDescription("Build services");
+    request.setRequirement("Java");
+    request.setJobBenefits(List.of(new JobBenefitRequest("BONUS_GIFT", "Tet bonus")));
+    request.setEducationLevel(EducationLevel.MASTER.name());
+    request.setExperienceLevel(ExperienceLevel.ONE_TO_TWO_YEARS.name());
+    request.setJobLevel(JobLevel.MANAGER.name());
+    request.setJobType(JobType.TEMPORARY_PART_TIME.name());
+    request.setGender(JobGender.MALE.name());
+    request.setIndustryIds(List.of(4L));
+    request.setContactPerson("Khanh");
+    request.setContactLocation(new LocationRequest(1L, 3L, "HQ"));
+    request.setJobLocations(List.of(new LocationRequest(1L, 3L, "Office")));
+    request.setExpirationDate(EXPIRATION_DATE);
+    return request;
+  }
+
+  // Every enum uses a different ordinal so that two swapped columns cannot go unnoticed
+  private static Job sampleJob(String title) {
+    Province province = new Province();
+    province.setId(1L);
+    District district = new District();
+    district.setId(3L);
+    Industry industry = new Industry();
+    industry.setId(4L);
+    Employer author = new Employer();
+    author.setId(12L);
+
+    Job job =
+        Job.builder()
+            .companyName("Workify")
+            .companySize(LevelCompanySize.FROM_5000_TO_9999)
+            .companyWebsite("https://workify.example")
+            .aboutCompany("About Workify")
+            .jobTitle(title)
+            .salaryType(SalaryType.RANGE)
+            .minSalary(1_000d)
+            .maxSalary(2_000d)
+            .salaryUnit(SalaryUnit.USD)
+            .jobDescription("Build services")
+            .requirement("Java")
+            .jobBenefits(List.of(new JobBenefit(BenefitType.BONUS_GIFT, "Tet bonus")))
+            .educationLevel(EducationLevel.MASTER)
+            .experienceLevel(ExperienceLevel.ONE_TO_TWO_YEARS)
+            .jobLevel(JobLevel.MANAGER)
+            .jobType(JobType.TEMPORARY_PART_TIME)
+            .gender(JobGender.MALE)
+            .jobCode("JOB-1")
+            .ageType(AgeType.INPUT)
+            .minAge(20L)
+            .maxAge(35L)
+            .contactPerson("Khanh")
+            .phoneNumber("0900000000")
+            .description("Description")
+            .expirationDate(EXPIRATION_DATE)
+            .status(JobStatus.APPROVED)
+            .author(author)
+            .applicationCount(7)
+            .saveCount(8)
+            .viewCount(9L)
+            .build();
+    Location contactLocation =
+        Location.builder().province(province).district(district).detailAddress("HQ").build();
+    job.setContactLocation(contactLocation);
+    Set<Location> jobLocations = new HashSet<>();
+    jobLocations.add(
+        Location.builder()
+            .province(province)
+            .district(district)
+            .detailAddress("Office")
+            .job(job)
+            .build());
+    job.setJobLocations(jobLocations);
+    Set<JobIndustry> jobIndustries = new HashSet<>();
+    jobIndustries.add(JobIndustry.builder().job(job).industry(industry).build());
+    job.setJobIndustries(jobIndustries);
+    return job;
+  }
+}
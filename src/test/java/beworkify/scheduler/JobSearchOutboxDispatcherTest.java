@@ -0,0 +1,96 @@
+package beworkify.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import beworkify.entity.Job;
+import beworkify.entity.JobSearchOutbox;
+import beworkify.repository.JobRepository;
+import beworkify.repository.JobSearchOutboxRepository;
+import beworkify.search.service.JobSearchService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class JobSearchOutboxDispatcherTest {
+
+  private JobSearchOutboxRepository outboxRepository;
+  private JobRepository jobRepository;
+  private JobSearchService jobSearchService;
+  private JobSearchOutboxDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    outboxRepository = mock(JobSearchOutboxRepository.class);
+    jobRepository = mock(JobRepository.class);
+    jobSearchService = mock(JobSearchService.class);
+    TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(i -> i.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    dispatcher =
+        new JobSearchOutboxDispatcher(
+            outboxRepository, jobRepository, jobSearchService, transactionTemplate);
+  }
+
+  @Test
+  void backoffDoublesPerAttempt() {
+    assertThat(JobSearchOutboxDispatcher.backoffSeconds(1)).isEqualTo(2);
+    assertThat(JobSearchOutboxDispatcher.backoffSeconds(2)).isEqualTo(4);
+    assertThat(JobSearchOutboxDispatcher.backoffSeconds(5)).isEqualTo(32);
+  }
+
+  @Test
+  void backoffIsCappedAtFiveMinutes() {
+    assertThat(JobSearchOutboxDispatcher.backoffSeconds(9)).isEqualTo(300);
+    assertThat(JobSearchOutboxDispatcher.backoffSeconds(Integer.MAX_VALUE)).isEqualTo(300);
+  }
+
+  @Test
+  void entriesAreCoalescedPerJob() {
+    List<JobSearchOutbox> entries = List.of(entry(1L), entry(1L), entry(2L));
+    when(outboxRepository.claimDue(any(), anyInt())).thenReturn(entries);
+    List<Job> jobs = List.of(job(1L));
+    when(jobRepository.fetchJobsByIds(List.of(1L, 2L))).thenReturn(jobs);
+
+    dispatcher.dispatch();
+
+    verify(jobSearchService).indexAll(jobs);
+    verify(jobSearchService).deleteAllById(List.of(2L));
+    verify(outboxRepository).deleteAllInBatch(entries);
+  }
+
+  @Test
+  void failedBatchIsRescheduledWithBackoff() {
+    JobSearchOutbox entry = entry(1L);
+    entry.setAttempts(2);
+    when(outboxRepository.claimDue(any(), anyInt())).thenReturn(List.of(entry));
+    when(jobRepository.fetchJobsByIds(List.of(1L))).thenReturn(List.of(job(1L)));
+    doThrow(new IllegalStateException("down")).when(jobSearchService).indexAll(any());
+    LocalDateTime before = LocalDateTime.now();
+
+    dispatcher.dispatch();
+
+    assertThat(entry.getAttempts()).isEqualTo(3);
+    assertThat(entry.getAvailableAt()).isAfterOrEqualTo(before.plusSeconds(8));
+    verify(outboxRepository, never()).deleteAllInBatch(any());
+  }
+
+  private static JobSearchOutbox entry(Long jobId) {
+    return JobSearchOutbox.builder().jobId(jobId).build();
+  }
+
+  private static Job job(Long id) {
+    Job job = new Job();
+    job.setId(id);
+    return job;
+  }
+}
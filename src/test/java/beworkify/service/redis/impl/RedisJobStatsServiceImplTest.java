@@ -0,0 +1,121 @@
+package beworkify.service.redis.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import beworkify.repository.JobRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class RedisJobStatsServiceImplTest {
+
+  private static final String LEASE_KEY = "stats:jobs:approved:rebuilding";
+  private static final String PROVINCE_KEY = "stats:jobs:approved:province";
+  private static final String INDUSTRY_KEY = "stats:jobs:approved:industry";
+  private static final String LEASE_TTL_SECONDS = "300";
+
+  private StringRedisTemplate stringRedisTemplate;
+  private ValueOperations<String, String> valueOperations;
+  private HashOperations<String, Object, Object> hashOperations;
+  private JobRepository jobRepository;
+  private RedisJobStatsServiceImpl service;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    stringRedisTemplate = mock(StringRedisTemplate.class);
+    valueOperations = mock(ValueOperations.class);
+    hashOperations = mock(HashOperations.class);
+    jobRepository = mock(JobRepository.class);
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+    when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class)))
+        .thenReturn(true);
+    service = new RedisJobStatsServiceImpl(stringRedisTemplate, jobRepository);
+  }
+
+  @Test
+  void adjustmentDuringRebuildIsJournaledAndReplayedBySwap() {
+    when(jobRepository.countApprovedJobsByProvince())
+        .thenAnswer(
+            i -> {
+              // A job is approved while the snapshot is being taken
+              service.adjustApprovedJobCounts(List.of(5L), List.of(), 1);
+              return List.<Object[]>of(new Object[] {5L, 2L});
+            });
+    when(jobRepository.countApprovedJobsByIndustry()).thenReturn(List.of());
+
+    assertThat(service.rebuild()).isTrue();
+
+    InOrder order = inOrder(stringRedisTemplate, hashOperations);
+    order
+        .verify(stringRedisTemplate)
+        .delete(List.of(PROVINCE_KEY + ":journal", INDUSTRY_KEY + ":journal"));
+    order
+        .verify(stringRedisTemplate)
+        .execute(
+            RedisJobStatsServiceImpl.ADJUST_SCRIPT,
+            List.of(LEASE_KEY, PROVINCE_KEY, PROVINCE_KEY + ":journal"),
+            "1",
+            LEASE_TTL_SECONDS,
+            "5");
+    order.verify(hashOperations).putAll(PROVINCE_KEY + ":tmp", Map.of("5", "2"));
+    order
+        .verify(stringRedisTemplate)
+        .execute(
+            RedisJobStatsServiceImpl.SWAP_SCRIPT,
+            List.of(PROVINCE_KEY + ":tmp", PROVINCE_KEY, PROVINCE_KEY + ":journal"));
+  }
+
+  @Test
+  void emptySnapshotIsStillSwappedInToClearTheCounters() {
+    when(jobRepository.countApprovedJobsByProvince()).thenReturn(List.of());
+    when(jobRepository.countApprovedJobsByIndustry()).thenReturn(List.of());
+
+    assertThat(service.rebuild()).isTrue();
+
+    verify(hashOperations, never()).putAll(anyString(), anyMap());
+    for (String key : List.of(PROVINCE_KEY, INDUSTRY_KEY)) {
+      InOrder order = inOrder(stringRedisTemplate);
+      // A snapshot left over by an interrupted run must not be swapped in
+      order.verify(stringRedisTemplate).delete(key + ":tmp");
+      order
+          .verify(stringRedisTemplate)
+          .execute(
+              RedisJobStatsServiceImpl.SWAP_SCRIPT, List.of(key + ":tmp", key, key + ":journal"));
+    }
+  }
+
+  @Test
+  void rebuildIsSkippedWhileAnotherNodeHoldsTheLease() {
+    when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class)))
+        .thenReturn(false);
+
+    assertThat(service.rebuild()).isFalse();
+
+    verifyNoInteractions(jobRepository, hashOperations);
+  }
+
+  @Test
+  void adjustmentWithoutIdsDoesNotCallRedis() {
+    service.adjustApprovedJobCounts(List.of(), List.of(), 1);
+
+    verifyNoInteractions(stringRedisTemplate);
+  }
+}
@@ -0,0 +1,98 @@
+package beworkify.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import beworkify.enumeration.ErrorCode;
+import beworkify.exception.AppException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CursorUtilsTest {
+
+  @Test
+  void keysetCursorRoundTrips() {
+    LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 15, 30, 123_000_000);
+
+    CursorUtils.Cursor cursor = CursorUtils.decode(CursorUtils.encode(createdAt, 42L));
+
+    assertThat(cursor.createdAt()).isEqualTo(createdAt);
+    assertThat(cursor.id()).isEqualTo(42L);
+  }
+
+  @Test
+  void keysetCursorIsUrlSafe() {
+    String cursor = CursorUtils.encode(LocalDateTime.of(2024, 5, 1, 10, 15), Long.MAX_VALUE);
+
+    assertThat(cursor).doesNotContain("+", "/", "=");
+  }
+
+  @Test
+  void encodeWithoutSortKeyReturnsNull() {
+    assertThat(CursorUtils.encode(null, 1L)).isNull();
+    assertThat(CursorUtils.encode(LocalDateTime.now(), null)).isNull();
+  }
+
+  @Test
+  void blankCursorStartsFromFirstPage() {
+    assertThat(CursorUtils.decode(null)).isSameAs(CursorUtils.Cursor.FIRST);
+    assertThat(CursorUtils.decode("  ")).isSameAs(CursorUtils.Cursor.FIRST);
+  }
+
+  @Test
+  void malformedKeysetCursorIsRejected() {
+    assertInvalidCursor("not base64!");
+    assertInvalidCursor(encodeRaw("2024-05-01T10:15:30"));
+    assertInvalidCursor(encodeRaw("|42"));
+    assertInvalidCursor(encodeRaw("yesterday|42"));
+    assertInvalidCursor(encodeRaw("2024-05-01T10:15:30|abc"));
+  }
+
+  @Test
+  void searchAfterCursorRoundTrips() {
+    List<Object> searchAfter = List.of(12.5, 1714558530000L, "42");
+
+    CursorUtils.SearchAfterCursor cursor =
+        CursorUtils.decodeSearchAfter(CursorUtils.encodeSearchAfter("pit-1", searchAfter));
+
+    assertThat(cursor.pitId()).isEqualTo("pit-1");
+    assertThat(cursor.searchAfter()).containsExactly(12.5, 1714558530000L, "42");
+  }
+
+  @Test
+  void blankSearchAfterCursorStartsANewSearch() {
+    assertThat(CursorUtils.decodeSearchAfter(null)).isNull();
+    assertThat(CursorUtils.decodeSearchAfter("")).isNull();
+  }
+
+  @Test
+  void malformedSearchAfterCursorIsRejected() {
+    assertInvalidSearchAfterCursor("not base64!");
+    assertInvalidSearchAfterCursor(encodeRaw("not json"));
+    assertInvalidSearchAfterCursor(encodeRaw("{\"searchAfter\":[1]}"));
+    assertInvalidSearchAfterCursor(encodeRaw("{\"pitId\":\"pit-1\"}"));
+  }
+
+  private static void assertInvalidSearchAfterCursor(String cursor) {
+    assertThatThrownBy(() -> CursorUtils.decodeSearchAfter(cursor))
+        .isInstanceOf(AppException.class)
+        .extracting(e -> ((AppException) e).getErrorCode())
+        .isEqualTo(ErrorCode.INVALID_CURSOR);
+  }
+
+  private static void assertInvalidCursor(String cursor) {
+    assertThatThrownBy(() -> CursorUtils.decode(cursor))
+        .isInstanceOf(AppException.class)
+        .extracting(e -> ((AppException) e).getErrorCode())
+        .isEqualTo(ErrorCode.INVALID_CURSOR);
+  }
+
+  private static String encodeRaw(String raw) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
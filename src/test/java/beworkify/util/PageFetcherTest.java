@@ -0,0 +1,120 @@
+package beworkify.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import beworkify.enumeration.CountMode;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class PageFetcherTest {
+
+  private static final Pageable PAGEABLE = PageRequest.of(1, 2);
+
+  private final AtomicInteger pageQueries = new AtomicInteger();
+  private final AtomicInteger sliceQueries = new AtomicInteger();
+  private final Function<Pageable, Page<Long>> pageQuery =
+      pageable -> {
+        pageQueries.incrementAndGet();
+        return new PageImpl<>(List.of(3L, 4L), pageable, 40);
+      };
+  private final Function<Pageable, Slice<Long>> sliceQuery =
+      pageable -> {
+        sliceQueries.incrementAndGet();
+        return new SliceImpl<>(List.of(3L, 4L), pageable, true);
+      };
+
+  private ValueOperations<String, String> valueOperations;
+  private PageFetcher pageFetcher;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    valueOperations = mock(ValueOperations.class);
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    pageFetcher = new PageFetcher(stringRedisTemplate);
+  }
+
+  @Test
+  void exactModeRunsTheCountedQuery() {
+    Slice<Long> result =
+        pageFetcher.fetch(CountMode.EXACT, "jobs", PAGEABLE, pageQuery, sliceQuery);
+
+    assertThat(PageFetcher.totalPagesOf(result)).isEqualTo(20);
+    assertThat(pageQueries).hasValue(1);
+    assertThat(sliceQueries).hasValue(0);
+  }
+
+  @Test
+  void noneModeRunsTheSliceQueryWithoutTotal() {
+    Slice<Long> result = pageFetcher.fetch(CountMode.NONE, "jobs", PAGEABLE, pageQuery, sliceQuery);
+
+    assertThat(result.hasNext()).isTrue();
+    assertThat(PageFetcher.totalPagesOf(result)).isNull();
+    assertThat(pageQueries).hasValue(0);
+    verify(valueOperations, never()).get(anyString());
+  }
+
+  @Test
+  void approximateModeCountsOnceAndCachesTheTotal() {
+    Slice<Long> result =
+        pageFetcher.fetch(CountMode.APPROXIMATE, "jobs", PAGEABLE, pageQuery, sliceQuery);
+
+    assertThat(PageFetcher.totalPagesOf(result)).isEqualTo(20);
+    assertThat(pageQueries).hasValue(1);
+    verify(valueOperations).set(eq("count:jobs"), eq("40"), eq(Duration.ofMinutes(5)));
+  }
+
+  @Test
+  void approximateModeReusesTheCachedTotal() {
+    when(valueOperations.get("count:jobs")).thenReturn("40");
+
+    Slice<Long> result =
+        pageFetcher.fetch(CountMode.APPROXIMATE, "jobs", PAGEABLE, pageQuery, sliceQuery);
+
+    assertThat(result).isInstanceOf(Page.class);
+    assertThat(((Page<Long>) result).getTotalElements()).isEqualTo(40);
+    assertThat(pageQueries).hasValue(0);
+    assertThat(sliceQueries).hasValue(1);
+  }
+
+  @Test
+  void approximateTotalNeverTrailsTheRowsAlreadySeen() {
+    when(valueOperations.get("count:jobs")).thenReturn("1");
+
+    Slice<Long> result =
+        pageFetcher.fetch(CountMode.APPROXIMATE, "jobs", PAGEABLE, pageQuery, sliceQuery);
+
+    // offset 2 + 2 rows on this page + at least one on the next
+    assertThat(((Page<Long>) result).getTotalElements()).isEqualTo(5);
+  }
+
+  @Test
+  void approximateModeFallsBackToCountingWhenRedisFails() {
+    when(valueOperations.get("count:jobs")).thenThrow(new IllegalStateException("down"));
+
+    Slice<Long> result =
+        pageFetcher.fetch(CountMode.APPROXIMATE, "jobs", PAGEABLE, pageQuery, sliceQuery);
+
+    assertThat(PageFetcher.totalPagesOf(result)).isEqualTo(20);
+    assertThat(pageQueries).hasValue(1);
+  }
+}